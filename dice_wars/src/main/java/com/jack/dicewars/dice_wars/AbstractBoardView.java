@@ -51,7 +51,8 @@ public abstract class AbstractBoardView {
      */
     public void updatePrimaryAction() {
         final View primaryButton = ((Activity) context).findViewById(R.id.phaseEnd);
-        ((Button) primaryButton).setText(context.getResources().getString(board.getPrimaryActionId()));
+        final int primaryActionId = ModelResources.stringId(board.getPrimaryAction());
+        ((Button) primaryButton).setText(context.getResources().getString(primaryActionId));
     }
 
     /**
@@ -72,6 +72,27 @@ public class BespokeFragment extends DialogFragment {
             case R.id.radioGridTextBoard:
                 bespokeFlag |= Debug.gridText.f;
                 break;
+            case R.id.radioCompactGridBoard:
+                bespokeFlag |= Debug.compactGrid.f;
+                break;
+            default:
+                break;
+        }
+
+        final RadioGroup aiPacingGroup = (RadioGroup) getActivity().findViewById(R.id.radioGroupAiPacing);
+        switch (aiPacingGroup.getCheckedRadioButtonId()) {
+            case R.id.radioInstantAi:
+                bespokeFlag |= Debug.instantAi.f;
+                break;
+            default:
+                break;
+        }
+
+        final RadioGroup aiStrengthGroup = (RadioGroup) getActivity().findViewById(R.id.radioGroupAiStrength);
+        switch (aiStrengthGroup.getCheckedRadioButtonId()) {
+            case R.id.radioSearchAi:
+                bespokeFlag |= Debug.searchAi.f;
+                break;
             default:
                 break;
         }
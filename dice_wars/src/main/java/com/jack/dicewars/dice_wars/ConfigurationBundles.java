@@ -0,0 +1,78 @@
+package com.jack.dicewars.dice_wars;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.Parcelable;
+import com.jack.dicewars.dice_wars.game.Configuration;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+
+/**
+ * Utility class used for transferring a {@link Configuration} between Activities by use of the String keys defined by
+ * this class.
+ */
+public final class ConfigurationBundles {
+
+    private static final String PLAYERS_KEY = "players";
+    private static final String COLORLESS_TERRITORY_KEY = "colorlessTerritory";
+    private static final String RANDOM_REINFORCE_KEY = "randomReinforce";
+    private static final String BOARD_SIZE_KEY = "boardSize";
+    private static final String APP_MODE_KEY = "appMode";
+    private static final String SEED_KEY = "seed";
+
+    /**
+     * Private constructor to override public default constructor.
+     */
+    private ConfigurationBundles() {
+
+    }
+
+    /**
+     * Defines a Configuration by the extras of the passed bundle. Extra keys are defined at {@link #PLAYERS_KEY}.
+     *
+     * @param bundle The extras of an intent fully defining a Configuration.
+     * @return The Configuration described by bundle.
+     */
+    public static Configuration download(Bundle bundle) {
+        Parcelable[] parceledPlayers = bundle.getParcelableArray(PLAYERS_KEY);
+        Player[] players = new Player[parceledPlayers.length];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = ((ParcelablePlayer) parceledPlayers[i]).getPlayer();
+        }
+        final Configuration config = new Configuration(players,
+                bundle.getBoolean(COLORLESS_TERRITORY_KEY, false),
+                bundle.getBoolean(RANDOM_REINFORCE_KEY, false),
+                bundle.getInt(BOARD_SIZE_KEY, AbstractBoard.BOARD_SIZE_SMALL),
+                bundle.getInt(APP_MODE_KEY, Configuration.DEFAULT_MODE));
+        // Without a seed every Game picks its own
+        if (bundle.containsKey(SEED_KEY)) {
+            config.setSeed(bundle.getLong(SEED_KEY));
+        }
+        return config;
+    }
+
+    /**
+     * Returns the passed intent with the configurations separated into primitive types and matched with string keys
+     * that are defined as this class' members.
+     *
+     * @param config The Configuration to send.
+     * @param intent The link to the activity that needs configuration settings
+     * @return An intent with extras that fully define a Configuration
+     */
+    public static Intent upload(Configuration config, Intent intent) {
+        final Player[] players = config.getPlayers();
+        final ParcelablePlayer[] parceledPlayers = new ParcelablePlayer[players.length];
+        for (int i = 0; i < players.length; i++) {
+            parceledPlayers[i] = new ParcelablePlayer(players[i]);
+        }
+        intent.putExtra(PLAYERS_KEY, parceledPlayers);
+        intent.putExtra(COLORLESS_TERRITORY_KEY, config.isColorlessTerritory());
+        intent.putExtra(RANDOM_REINFORCE_KEY, config.isRandomReinforce());
+        intent.putExtra(BOARD_SIZE_KEY, config.getBoardSize());
+        intent.putExtra(APP_MODE_KEY, config.getAppMode());
+        if (config.isSeeded()) {
+            intent.putExtra(SEED_KEY, config.getSeed());
+        }
+        return intent;
+    }
+}
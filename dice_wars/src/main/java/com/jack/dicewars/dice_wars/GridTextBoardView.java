@@ -89,9 +89,9 @@ public class GridTextBoardView extends AbstractBoardView {
     @Override
     public void updateView(TerritoryBorder modelKey) {
         Button nativeView = (Button) territoryNativeViewMap.get(modelTerritoryMap.get(modelKey));
-        final TerritoryColor territoryColor = modelKey.getInternal().getColor();
+        final TerritoryColor territoryColor = modelKey.color();
         // TODO figure out why this depends on exactly two characters being here
-        nativeView.setText(modelKey.getInternal().getColor().getCode() + modelKey.getInternal().getValue());
+        nativeView.setText(territoryColor.getCode() + modelKey.value());
         if (modelKey.isSelected()) {
             nativeView.setTypeface(null, Typeface.BOLD);
         } else if (modelKey.isSelectable()) {
@@ -100,7 +100,7 @@ public class GridTextBoardView extends AbstractBoardView {
         } else {
             nativeView.setTypeface(null, Typeface.NORMAL);
         }
-        nativeView.setBackground(context.getResources().getDrawable(territoryColor.getDrawableId()));
+        nativeView.setBackground(context.getResources().getDrawable(ModelResources.drawableId(territoryColor)));
     }
 
     /**
@@ -6,23 +6,59 @@ import android.content.DialogInterface;
 import android.content.Intent;
 import android.os.AsyncTask;
 import android.os.Bundle;
+import android.os.Handler;
 import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 import com.jack.dicewars.dice_wars.ai.AbstractAi;
+import com.jack.dicewars.dice_wars.ai.AiFactory;
+import com.jack.dicewars.dice_wars.ai.AiPacer;
+import com.jack.dicewars.dice_wars.ai.CancellationToken;
+import com.jack.dicewars.dice_wars.ai.DiceWarsAi;
+import com.jack.dicewars.dice_wars.ai.FastForward;
+import com.jack.dicewars.dice_wars.ai.MctsAi;
 import com.jack.dicewars.dice_wars.ai.SimpleAi;
+import com.jack.dicewars.dice_wars.ai.Tournament;
+import com.jack.dicewars.dice_wars.ai.WeightedAi;
 import com.jack.dicewars.dice_wars.game.Configuration;
 import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.PrimaryAction;
 import com.jack.dicewars.dice_wars.game.Results;
 import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.progression.ReinforcePhase;
 import com.jack.dicewars.dice_wars.setup.GameConfigActivity;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * This activity will handle displaying the progression of a DiceWars game.
  */
 public class MainGameActivity extends Activity implements GameController {
 
+    /**
+     * The longest an AI may think about one selection, so that slow devices still get a move in time.
+     */
+    private static final long AI_DECISION_MILLIS = 2000;
+
+    /**
+     * Plays every Phase of a fast forward. It decides in microseconds, so the rest of the Game takes moments.
+     */
+    private static final AiFactory FAST_FORWARD_AIS = new AiFactory() {
+        @Override
+        public String name() {
+            return "fast forward";
+        }
+
+        @Override
+        public DiceWarsAi create(Game game) {
+            return new WeightedAi(game);
+        }
+    };
+
     /**
      * The root container for DiceWars game logic.
      */
@@ -30,6 +66,28 @@ public class MainGameActivity extends Activity implements GameController {
 
     private AbstractBoardView boardView;
 
+    /**
+     * The AI of each AI Player, kept for the whole Game so that a searching AI can ponder between its Turns.
+     */
+    private final Map<Player, AbstractAi> ais = new IdentityHashMap<>();
+
+    /**
+     * Stops the running AI task, if any, when the Game is torn down.
+     */
+    private CancellationToken aiCancellation;
+    private AsyncTask<?, ?, ?> aiTask;
+
+    /**
+     * Whether the Game is fast forwarded once only AIs are left. Only Games that started with a human are, so a Game
+     * of AIs alone can still be watched.
+     */
+    private boolean fastForwardable;
+    /**
+     * True while a fast forward is playing the Game in the background.
+     */
+    private volatile boolean fastForwarding;
+    private final Handler handler = new Handler();
+
     /**
      * Loads the configuration to use for the game.
      *
@@ -48,8 +106,9 @@ public class MainGameActivity extends Activity implements GameController {
             configBundle = restartBundle;
         }
 
-        this.game = new Game(new Configuration(configBundle), this);
+        this.game = new Game(ConfigurationBundles.download(configBundle), this);
         game.start();
+        fastForwardable = !game.onlyAisRemain();
 
         // Choose the game mode to run
         if ((game.getAppMode() & Debug.gridText.f) == Debug.gridText.f) {
@@ -82,7 +141,7 @@ public class MainGameActivity extends Activity implements GameController {
         ((TextView) findViewById(R.id.activePlayerName)).setText(game.currentPlayerName());
         ((TextView) findViewById(R.id.activePlayerName)).setTextColor(game.currentPlayerColor().getHexColor());
         ((TextView) findViewById(R.id.activePhase)).setText(game.currentPhase().toString());
-        ((TextView) findViewById(R.id.phaseEnd)).setText((game.getPrimaryActionId()));
+        ((TextView) findViewById(R.id.phaseEnd)).setText(ModelResources.stringId(game.getPrimaryAction()));
     }
 
     /**
@@ -100,16 +159,164 @@ public class MainGameActivity extends Activity implements GameController {
 
     @Override
     public void onPhaseChange() {
+        if (fastForwarding) {
+            // The fast forward plays every Phase itself
+            return;
+        }
+        if (fastForwardable && game.onlyAisRemain()) {
+            startFastForward();
+            return;
+        }
+
+        final Player current = game.currentPlayer();
+        if (searchAis() && game.currentPhase() instanceof ReinforcePhase) {
+            // The AI that moves next starts pondering, before any AI task starts changing the Game
+            final Player next = nextPlayer();
+            if (next != current && next.getStatus().equals(Player.STATUS_AI)) {
+                ((MctsAi) aiFor(next)).ponder(next);
+            }
+        }
+
         if (!game.myTurn()) {
+            final AbstractAi ai = aiFor(current);
+            if (ai instanceof MctsAi) {
+                ((MctsAi) ai).stopPondering();
+            }
             // Get a new AI task (each is only valid to execute once)
-            AsyncTask<AbstractAi, Selectable, Void> aiTask = generateAiTask();
+            aiCancellation = new CancellationToken();
+            final AsyncTask<AbstractAi, Selectable, Void> task = generateAiTask(aiCancellation);
+            aiTask = task;
             // Execute the AI's turn in the background
-            aiTask.execute(new AbstractAi[]{new SimpleAi(game)});
+            task.execute(new AbstractAi[]{ai});
         }
     }
 
-    @Override
-    public AsyncTask<AbstractAi, Selectable, Void> generateAiTask() {
+    /**
+     *
+     * @return The Player whose Turn follows the current Player's, skipping Players that are out of the Game. This is
+     * the current Player if no one else remains.
+     */
+    private Player nextPlayer() {
+        final List<Player> order = game.turnOrder();
+        final int current = order.indexOf(game.currentPlayer());
+        for (int i = 1; i < order.size(); i++) {
+            final Player player = order.get((current + i) % order.size());
+            if (!player.getStatus().equals(Player.STATUS_CLOSED)) {
+                return player;
+            }
+        }
+        return game.currentPlayer();
+    }
+
+    /**
+     *
+     * @return True if the app mode asks for AIs that search and ponder.
+     */
+    private boolean searchAis() {
+        return (game.getAppMode() & Debug.searchAi.f) == Debug.searchAi.f;
+    }
+
+    /**
+     *
+     * @param player An AI Player of the Game.
+     * @return The AI that plays for player, created on first use. It is an MctsAi if {@link #searchAis()}, otherwise
+     * a SimpleAi.
+     */
+    private AbstractAi aiFor(Player player) {
+        AbstractAi ai = ais.get(player);
+        if (ai == null) {
+            ai = searchAis() ? new MctsAi(game) : new SimpleAi(game);
+            ais.put(player, ai);
+        }
+        return ai;
+    }
+
+    /**
+     * Plays the rest of the Game in the background at full speed, then goes straight to the results. The fast forward
+     * starts once the Phase change that called this is done with the Game.
+     */
+    private void startFastForward() {
+        stopAis();
+        fastForwarding = true;
+        ((TextView) findViewById(R.id.activePhase)).setText(R.string.fast_forwarding);
+        final CancellationToken cancellation = new CancellationToken();
+        aiCancellation = cancellation;
+        final AsyncTask<Void, Void, Boolean> task = new AsyncTask<Void, Void, Boolean>() {
+            @Override
+            protected Boolean doInBackground(Void... params) {
+                Log.i(Debug.ai.s, "Fast forwarding from round " + game.getRoundNum());
+                return new FastForward(game, FAST_FORWARD_AIS, game.getRoundNum() + Tournament.DEFAULT_MAX_ROUNDS,
+                        cancellation).play();
+            }
+
+            @Override
+            protected void onPostExecute(Boolean ended) {
+                if (cancellation.isCancelled()) {
+                    return;
+                }
+                aiTask = null;
+                aiCancellation = null;
+                fastForwarding = false;
+                if (ended) {
+                    showResults();
+                } else {
+                    // The AIs are stuck, let them play on screen instead
+                    Log.i(Debug.ai.s, "Fast forward gave up at round " + game.getRoundNum());
+                    fastForwardable = false;
+                    uiUpdate();
+                    onPhaseChange();
+                }
+            }
+        };
+        aiTask = task;
+        handler.post(new Runnable() {
+            @Override
+            public void run() {
+                if (!cancellation.isCancelled()) {
+                    task.execute();
+                }
+            }
+        });
+    }
+
+    /**
+     * Cancels the running AI task and stops every AI from pondering, so that no background work outlives the Game or
+     * changes it after it is torn down.
+     */
+    private void stopAis() {
+        if (aiTask != null) {
+            aiCancellation.cancel();
+            // Interrupts the pacing between selections
+            aiTask.cancel(true);
+            aiTask = null;
+            aiCancellation = null;
+        }
+        for (AbstractAi ai : ais.values()) {
+            if (ai instanceof MctsAi) {
+                ((MctsAi) ai).stopPondering();
+            }
+        }
+    }
+
+    /**
+     *
+     * @return An AiPacer that lets each AI selection be seen, unless the app mode asks for instant AIs.
+     */
+    private AiPacer generateAiPacer() {
+        if ((game.getAppMode() & Debug.instantAi.f) == Debug.instantAi.f) {
+            return AiPacer.instant();
+        }
+        return AiPacer.forDisplay();
+    }
+
+    /**
+     *
+     * @param cancellation Stops the task and its AI once cancelled.
+     * @return An Android AsyncTask that takes an AI to do work and updates this Controller when it has selected a
+     * Selectable. The AI decides within {@link #AI_DECISION_MILLIS}, and the task paces its selections for display.
+     */
+    public AsyncTask<AbstractAi, Selectable, Void> generateAiTask(final CancellationToken cancellation) {
+        final AiPacer pacer = generateAiPacer();
         return new AsyncTask<AbstractAi, Selectable, Void>() {
             @Override
             protected Void doInBackground(AbstractAi... params) {
@@ -117,8 +324,20 @@ public class MainGameActivity extends Activity implements GameController {
                 final AbstractAi ai = params[0];
 
                 // TODO Abstract this flow into the AI class itself
+                ai.limit(System.nanoTime() + AI_DECISION_MILLIS * 1000000L, cancellation);
                 while (ai.desiredSelection()) {
+                    try {
+                        pacer.awaitNextSelection();
+                    } catch (InterruptedException e) {
+                        Log.i(Debug.ai.s, "AI Phase interrupted");
+                        return null;
+                    }
+                    if (isCancelled()) {
+                        Log.i(Debug.ai.s, "AI Phase cancelled");
+                        return null;
+                    }
                     Selectable selection = ai.makeSelection();
+                    ai.limit(System.nanoTime() + AI_DECISION_MILLIS * 1000000L, cancellation);
                     publishProgress(selection);
                 }
                 return null;
@@ -132,7 +351,11 @@ public class MainGameActivity extends Activity implements GameController {
 
             @Override
             protected void onPostExecute(Void blank) {
-                while (!getString(game.getPrimaryActionId()).equals("End Phase")) {
+                if (cancellation.isCancelled()) {
+                    return;
+                }
+                aiTask = null;
+                while (game.getPrimaryAction() != PrimaryAction.endPhase) {
                     game.doPrimaryAction();
                 }
                 game.doPrimaryAction();
@@ -144,6 +367,18 @@ public class MainGameActivity extends Activity implements GameController {
 
     @Override
     public void onGameEnd() {
+        if (fastForwarding) {
+            // The results are shown once the fast forward is done
+            return;
+        }
+        stopAis();
+        showResults();
+    }
+
+    /**
+     * Leaves the Game for the results screen.
+     */
+    private void showResults() {
         Intent resultsScreen = new Intent(this, ResultsActivity.class);
         resultsScreen = gatherResults(resultsScreen);
         startActivity(resultsScreen);
@@ -158,13 +393,19 @@ public class MainGameActivity extends Activity implements GameController {
      * @return The updated intent will relevant results data stored as extras.
      */
     private Intent gatherResults(Intent intent) {
-        intent.putParcelableArrayListExtra(Results.CLOSED_PLAYERS, game.getClosedPlayers());
+        intent.putParcelableArrayListExtra(Results.CLOSED_PLAYERS, ParcelablePlayer.wrap(game.getClosedPlayers()));
         intent.putExtra(Results.ROUND_NUM, game.getRoundNum());
         intent.putExtra(Results.ORIGINAL_CONFIG, getIntent().getExtras());
         return intent;
     }
 
 
+    @Override
+    protected void onDestroy() {
+        stopAis();
+        super.onDestroy();
+    }
+
     @Override
     public void onBackPressed() {
         AlertDialog.Builder builder = new AlertDialog.Builder(this);
@@ -193,6 +434,7 @@ public class MainGameActivity extends Activity implements GameController {
      * configuration activity.
      */
     private void goToModeSelect() {
+        stopAis();
         Intent i = new Intent(this, GameConfigActivity.class);
         i.putExtras(GameConfigActivity.defaultExtras());
         finish();
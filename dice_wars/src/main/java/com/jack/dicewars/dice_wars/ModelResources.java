@@ -0,0 +1,59 @@
+package com.jack.dicewars.dice_wars;
+
+import com.jack.dicewars.dice_wars.game.PrimaryAction;
+
+/**
+ * Utility class that maps the Android-free game model onto the app's resources. The model lives in the core module
+ * and can't reference R, so every drawable or string that represents model state is looked up here.
+ */
+public final class ModelResources {
+
+    /**
+     * Private constructor to override public default constructor.
+     */
+    private ModelResources() {
+
+    }
+
+    /**
+     * An Android drawable that can be repeated on a View.
+     * @param territoryColor The model color to represent.
+     * @return The drawable resource id for the TerritoryColor
+     */
+    public static int drawableId(TerritoryColor territoryColor) {
+        switch (territoryColor) {
+            case colorless:
+                return R.drawable.tc_colorless;
+            case green:
+                return R.drawable.tc_green;
+            case yellow:
+                return R.drawable.tc_yellow;
+            case red:
+                return R.drawable.tc_red;
+            case blue:
+                return R.drawable.tc_blue;
+            case purple:
+                return R.drawable.tc_purple;
+            case pink:
+                return R.drawable.tc_pink;
+            default:
+                throw new EnumConstantNotPresentException(TerritoryColor.class, territoryColor.name());
+        }
+    }
+
+    /**
+     *
+     * @param primaryAction The action the game's primary button will take.
+     * @return The string resource id for what the action's text should be on the game's primary button.
+     */
+    public static int stringId(PrimaryAction primaryAction) {
+        switch (primaryAction) {
+            case endPhase:
+                return R.string.end_phase;
+            case undo:
+                return R.string.undo;
+            default:
+                throw new EnumConstantNotPresentException(PrimaryAction.class, primaryAction.name());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.jack.dicewars.dice_wars;
+
+import android.os.Parcel;
+import android.os.Parcelable;
+import com.jack.dicewars.dice_wars.game.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wraps a model Player so that it can be passed between Activities. Only the properties that define a Player before
+ * a Game starts are parceled; Territories are never carried over.
+ */
+public class ParcelablePlayer implements Parcelable {
+
+    private Player player;
+
+    /**
+     *
+     * @param player The Player to parcel.
+     */
+    public ParcelablePlayer(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Enables Parcelable interface.
+     *
+     * @param in Parceled Player
+     */
+    protected ParcelablePlayer(Parcel in) {
+        final String name = in.readString();
+        final String status = in.readString();
+        final TerritoryColor territoryColor = TerritoryColor.values()[in.readInt()];
+        final int maxValue = in.readInt();
+        player = new Player(name, status, territoryColor, maxValue);
+    }
+
+    @Override
+    public int describeContents() {
+        return 0;
+    }
+
+    @Override
+    public void writeToParcel(Parcel dest, int flags) {
+        dest.writeString(player.getName());
+        dest.writeString(player.getStatus());
+        dest.writeInt(player.getTerritoryColor().ordinal());
+        dest.writeInt(player.getMaxValue());
+    }
+
+    @SuppressWarnings("unused")
+    public static final Parcelable.Creator<ParcelablePlayer> CREATOR = new Parcelable.Creator<ParcelablePlayer>() {
+        @Override
+        public ParcelablePlayer createFromParcel(Parcel in) {
+            return new ParcelablePlayer(in);
+        }
+
+        @Override
+        public ParcelablePlayer[] newArray(int size) {
+            return new ParcelablePlayer[size];
+        }
+    };
+
+    /**
+     *
+     * @return The wrapped model Player.
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     *
+     * @param players Model Players in the order they should be parceled.
+     * @return A list of the same Players, wrapped so they can be put in an Intent.
+     */
+    public static ArrayList<ParcelablePlayer> wrap(List<Player> players) {
+        final ArrayList<ParcelablePlayer> wrapped = new ArrayList<>();
+        for (Player p : players) {
+            wrapped.add(new ParcelablePlayer(p));
+        }
+        return wrapped;
+    }
+}
@@ -39,7 +39,7 @@ public class ResultsActivity extends Activity {
      * Takes the results from the Activity's intent's extras and populates the appropriate Views with the data.
      */
     private void postResults() {
-        final ArrayList<Player> closedPlayers = results.getParcelableArrayList(Results.CLOSED_PLAYERS);
+        final ArrayList<ParcelablePlayer> closedPlayers = results.getParcelableArrayList(Results.CLOSED_PLAYERS);
         final int roundNum = results.getInt(Results.ROUND_NUM);
 
         final ViewGroup resultsContainer = ((ViewGroup) findViewById(R.id.resultsContainer));
@@ -48,7 +48,7 @@ public class ResultsActivity extends Activity {
 
         // First, populate the results entries for Players that participated.
         for (; playerIndex < closedPlayers.size(); playerIndex++) {
-            final Player currentPlayer = closedPlayers.get(playerIndex);
+            final Player currentPlayer = closedPlayers.get(playerIndex).getPlayer();
 
             final View resultsBar = resultsContainer.getChildAt(playerIndex);
             ((TextView) resultsBar.findViewById(R.id.resultsRanking)).setText((playerIndex + 1) + ".");
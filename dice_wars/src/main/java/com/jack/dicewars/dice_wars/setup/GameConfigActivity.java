@@ -19,6 +19,7 @@ import android.widget.LinearLayout;
 import android.widget.RadioGroup;
 import android.widget.TextView;
 import com.jack.dicewars.dice_wars.BespokeFragment;
+import com.jack.dicewars.dice_wars.ConfigurationBundles;
 import com.jack.dicewars.dice_wars.Debug;
 import com.jack.dicewars.dice_wars.MainGameActivity;
 import com.jack.dicewars.dice_wars.R;
@@ -203,7 +204,7 @@ public class GameConfigActivity extends Activity implements BespokeFragment.OnBe
 
         // Push the configuration along the link to the activity
         Intent mainGame = new Intent(this, MainGameActivity.class);
-        mainGame = config.upload(mainGame);
+        mainGame = ConfigurationBundles.upload(config, mainGame);
         startActivity(mainGame);
         // Don't return to the Config screen once the game starts.
         finish();
@@ -22,9 +22,17 @@ public enum Debug {
     // App mode flags
     // Bits 0 through 2 are Board Mode
     gridText(1),
+    // Grid text layout whose Territories are stored in primitive arrays, includes the gridText bit
+    compactGrid(1 | 1 << 1),
     //Bits 3 through 5 are Start State
     // Most territories given to player 1
-    easyWin(1 << 3);
+    easyWin(1 << 3),
+    // Bit 6 is AI pacing
+    // AIs select as soon as they decide instead of waiting for each selection to be displayed
+    instantAi(1 << 6),
+    // Bit 7 is AI strength
+    // AIs search their attacks with MctsAi and ponder between Turns instead of playing like SimpleAi
+    searchAi(1 << 7);
 
     /**
      * A string to search for in logcat.
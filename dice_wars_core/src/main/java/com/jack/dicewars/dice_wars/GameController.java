@@ -1,9 +1,5 @@
 package com.jack.dicewars.dice_wars;
 
-import android.os.AsyncTask;
-import com.jack.dicewars.dice_wars.ai.AbstractAi;
-import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
-
 /**
  * Created by Jack Mueller on 4/17/15.
  * TODO subclass this and give an instance of the subclass to MainGameActivity instead of having MainGameActivity
@@ -16,15 +12,6 @@ public interface GameController {
      */
     void onPhaseChange();
 
-    // TODO abstract out AsyncTask
-
-    /**
-     *
-     * @return An Android AsyncTask that takes an AI to do work and updates tells this Controller when it has
-     * selected a Selectable.
-     */
-    AsyncTask<AbstractAi, Selectable, Void> generateAiTask();
-
     /**
      * Gathers statistics present at the end of the Game and sends program control to the Results Screen.
      */
@@ -0,0 +1,51 @@
+package com.jack.dicewars.dice_wars;
+
+/**
+ * A Color acts as the Primary ID for a Player during a given Game. The drawable for each Color is looked up by the
+ * app, so this enum stays free of Android resources.
+ */
+public enum TerritoryColor {
+    colorless("N", 0xFFCCCCCC),
+    green("g", 0xFF00FF00),
+    yellow("y", 0xFFFFFF00),
+    red("r", 0xFFFF0000),
+    blue("b", 0xFF0000FF),
+    purple("p", 0xFF800080),
+    pink("i", 0xFFFF00FF);
+
+    /**
+     * A color code that represents the actual color while in Text Mode.
+     */
+    private String code;
+
+    /**
+     * A hexadecimal color, dominant in the corresponding drawable.
+     */
+    private int hexColor;
+
+    /**
+     * A constructor to use colors in text mode.
+     * @param text The one letter code that signifies the color.
+     * @param hexColor The visual color of this TerritoryColor saved as AARRGGBB
+     */
+    TerritoryColor(String text, int hexColor) {
+        code = text;
+        this.hexColor = hexColor;
+    }
+
+    /**
+     * This color code should appear on color pickers and Territories in Text Mode.
+     * @return The one letter, lowercase color code
+     */
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     *
+     * @return The dominant color of this TerritoryColor's drawable in hex form.
+     */
+    public int getHexColor() {
+        return hexColor;
+    }
+}
@@ -0,0 +1,248 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.board.OwnershipLedger;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.progression.AttackPhase;
+import com.jack.dicewars.dice_wars.game.progression.Phase;
+import com.jack.dicewars.dice_wars.game.progression.ReinforcePhase;
+
+/**
+ * This superclass of DiceWars AI takes a Game to analyze and request selections from.
+ *
+ * An attack takes two selections, the attacker and then the defender. Subclasses only choose the attack with
+ * {@link #chooseAttack()}, and this class selects the attacker, keeps the defender until the attacker is selected, and
+ * then selects it. Reinforcements are planned for the whole Phase by {@link #allocateReinforcements(int)} and placed
+ * in one batch.
+ */
+public abstract class AbstractAi implements DiceWarsAi {
+
+    /**
+     * Attacks have to be more likely than this to win to be made by {@link #likeliestAttack()}.
+     */
+    private static final double MIN_WIN_CHANCE = 0.5;
+
+    protected Game game;
+    protected AbstractBoard board;
+
+    /**
+     * The Selectable to select next, or null if there is nothing decided.
+     */
+    protected Selectable desired;
+    /**
+     * The Territory to attack once {@link #desired} is selected as the attacker.
+     */
+    protected Selectable target;
+
+    /**
+     * Whether {@link #deadline} has been set by {@link #limit(long, CancellationToken)}.
+     */
+    private boolean hasDeadline;
+    /**
+     * The {@link System#nanoTime()} decisions have to be made by.
+     */
+    private long deadline;
+    private CancellationToken cancellation;
+
+    /**
+     * Reused by {@link #likeliestAttack()} for listing attacks. Created on first use.
+     */
+    private int[] attacks;
+
+    /**
+     * Plans the Reinforce Phases unless {@link #allocateReinforcements(int)} is overridden. Created on first use.
+     */
+    private ReinforcementPlanner planner;
+    /**
+     * The Phase {@link #plan} was made for.
+     */
+    private Phase plannedPhase;
+    /**
+     * The dice still to place on each Territory in {@link #plannedPhase}, or null if there are none.
+     */
+    private int[] plan;
+
+    /**
+     *
+     * @param game The Game this AI will analyze and make decisions on. The AI has access to make selections on
+     * Territories in the Game.
+     */
+    public AbstractAi(Game game) {
+        this.game = game;
+        this.board = game.getBoard();
+        desired = null;
+        target = null;
+        hasDeadline = false;
+        cancellation = new CancellationToken();
+    }
+
+    @Override
+    public void limit(long deadlineNanos, CancellationToken cancellation) {
+        hasDeadline = true;
+        deadline = deadlineNanos;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     *
+     * @return True if this AI has been cancelled and must not touch the Game.
+     */
+    protected boolean isCancelled() {
+        return cancellation.isCancelled();
+    }
+
+    /**
+     *
+     * @return The token that cancels this AI, for searches to check as they go.
+     */
+    protected CancellationToken cancellation() {
+        return cancellation;
+    }
+
+    /**
+     *
+     * @param wantedNanos The {@link System#nanoTime()} the AI would like to decide by.
+     * @return wantedNanos, or the deadline if that comes first.
+     */
+    protected long decideBy(long wantedNanos) {
+        // Compare the difference, nanoTime can overflow
+        return hasDeadline && deadline - wantedNanos < 0 ? deadline : wantedNanos;
+    }
+
+    /**
+     * Finds the attack of the current Player that is most likely to win, if it is more likely to win than to lose.
+     *
+     * @return The attack encoded by {@link MoveGenerator#encode(int, int)}, or -1 if there is no such attack.
+     */
+    protected int likeliestAttack() {
+        final OwnershipLedger ledger = board.getLedger();
+        final MoveGenerator generator = board.getMoveGenerator();
+        if (attacks == null) {
+            attacks = new int[generator.maxAttacks()];
+        }
+        final int count = generator.attacks(game.currentPlayer(), attacks);
+        double bestChance = MIN_WIN_CHANCE;
+        int best = -1;
+        for (int i = 0; i < count; i++) {
+            final int from = MoveGenerator.from(attacks[i]);
+            final int to = MoveGenerator.to(attacks[i]);
+            final double chance = board.getBattleOdds().attackerWins(ledger.value(from), ledger.value(to));
+            if (chance > bestChance) {
+                bestChance = chance;
+                best = attacks[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Plans the dice of the current Reinforce Phase with {@link #allocateReinforcements(int)}, once per Phase.
+     *
+     * @return True if the plan has dice that {@link #placeReinforcements()} has yet to place.
+     */
+    protected boolean planReinforcements() {
+        final ReinforcePhase phase = (ReinforcePhase) game.currentPhase();
+        if (phase != plannedPhase) {
+            plan = allocateReinforcements(phase.remaining());
+            plannedPhase = phase;
+        }
+        return plan != null;
+    }
+
+    /**
+     * Splits the dice of the current Reinforce Phase between the current Player's Territories. Uses a
+     * {@link ReinforcementPlanner} unless overridden.
+     *
+     * @param dice How many dice the Player has to place.
+     * @return How many dice to place on each Territory, indexed by board index, or null if none can be placed.
+     */
+    protected int[] allocateReinforcements(int dice) {
+        if (planner == null) {
+            planner = new ReinforcementPlanner(board);
+        }
+        return planner.plan(game.currentPlayer(), dice) > 0 ? planner.allocation() : null;
+    }
+
+    /**
+     *
+     * @return True if the current Phase was planned by {@link #planReinforcements()} and its dice aren't placed yet.
+     */
+    protected boolean reinforcementsPlanned() {
+        return plan != null && plannedPhase == game.currentPhase();
+    }
+
+    /**
+     * Places every die of the plan in one batch.
+     *
+     * @return A Territory that was reinforced, so that whoever runs this AI can show the change.
+     */
+    protected Selectable placeReinforcements() {
+        final int[] allocation = plan;
+        plan = null;
+        game.requestReinforcements(allocation);
+        for (int i = 0; i < allocation.length; i++) {
+            if (allocation[i] > 0) {
+                return board.getBoard().get(i);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Selectable makeSelection() {
+        if (isCancelled()) {
+            return null;
+        }
+        // AI has not yet been asked to see if it desires a selection
+        if (desired == null) {
+            if (!desiredSelection()) {
+                return null;
+            }
+        }
+        if (reinforcementsPlanned()) {
+            return placeReinforcements();
+        }
+        final Selectable selection = desired;
+        desired = null;
+        game.requestSelection(selection);
+        return selection;
+    }
+
+    @Override
+    public boolean desiredSelection() {
+        if (isCancelled()) {
+            return false;
+        }
+        final Phase phase = game.currentPhase();
+        if (phase instanceof ReinforcePhase) {
+            return planReinforcements();
+        }
+        if (!(phase instanceof AttackPhase)) {
+            return false;
+        }
+
+        if (game.getPendingAction()) {
+            // The attacker is selected, finish the attack that was planned
+            desired = target;
+            target = null;
+            return desired != null;
+        }
+
+        final int attack = chooseAttack();
+        if (attack < 0 || isCancelled()) {
+            return false;
+        }
+        desired = board.getBoard().get(MoveGenerator.from(attack));
+        target = board.getBoard().get(MoveGenerator.to(attack));
+        return true;
+    }
+
+    /**
+     * Decides the next attack of the current Player, whose attacker is not selected yet.
+     *
+     * @return The attack encoded by {@link MoveGenerator#encode(int, int)}, or a negative number to end the Phase.
+     */
+    protected abstract int chooseAttack();
+}
@@ -0,0 +1,22 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+
+/**
+ * Creates the AIs of one kind, such as for every Phase of a Player in a {@link Tournament}.
+ */
+public interface AiFactory {
+
+    /**
+     *
+     * @return A short name for this kind of AI, used when reporting results.
+     */
+    String name();
+
+    /**
+     *
+     * @param game The Game the AI will analyze and make decisions on.
+     * @return A new AI for the current Phase of game.
+     */
+    DiceWarsAi create(Game game);
+}
@@ -0,0 +1,75 @@
+package com.jack.dicewars.dice_wars.ai;
+
+/**
+ * Paces the selections of an AI for whoever is watching. AIs decide as fast as they can; the controller running them
+ * asks its AiPacer to wait before each selection so that the last one stayed on screen for a minimum display time.
+ * Time spent deciding counts towards that minimum, so slow AIs are never slowed down further.
+ *
+ * An AiPacer keeps the time of the last selection, so each run of an AI should have its own.
+ */
+public final class AiPacer {
+
+    /**
+     * The minimum display time used when selections are shown to a user.
+     */
+    public static final long DEFAULT_DISPLAY_MILLIS = 500;
+
+    private final long minDisplayNanos;
+    /**
+     * The {@link System#nanoTime()} of the last selection, or of the start of the run.
+     */
+    private long lastSelection;
+
+    /**
+     *
+     * @param minDisplayMillis How long each selection has to stay on screen before the next one is made. 0 never
+     * waits.
+     */
+    public AiPacer(long minDisplayMillis) {
+        if (minDisplayMillis < 0) {
+            throw new IllegalArgumentException("Display time cannot be negative");
+        }
+        minDisplayNanos = minDisplayMillis * 1000000L;
+        lastSelection = System.nanoTime();
+    }
+
+    /**
+     *
+     * @return An AiPacer that never waits, for headless or batch runs.
+     */
+    public static AiPacer instant() {
+        return new AiPacer(0);
+    }
+
+    /**
+     *
+     * @return An AiPacer that waits {@link #DEFAULT_DISPLAY_MILLIS} between selections, for the UI.
+     */
+    public static AiPacer forDisplay() {
+        return new AiPacer(DEFAULT_DISPLAY_MILLIS);
+    }
+
+    /**
+     *
+     * @return True if this AiPacer never waits.
+     */
+    public boolean isInstant() {
+        return minDisplayNanos == 0;
+    }
+
+    /**
+     * Waits out whatever is left of the minimum display time of the last selection, then starts timing the next one.
+     * Call this after the AI has decided and before its selection is made.
+     *
+     * @throws InterruptedException If the waiting thread is interrupted, such as when the AI's task is cancelled.
+     */
+    public void awaitNextSelection() throws InterruptedException {
+        if (!isInstant()) {
+            final long remaining = lastSelection + minDisplayNanos - System.nanoTime();
+            if (remaining > 0) {
+                Thread.sleep(remaining / 1000000L, (int) (remaining % 1000000L));
+            }
+        }
+        lastSelection = System.nanoTime();
+    }
+}
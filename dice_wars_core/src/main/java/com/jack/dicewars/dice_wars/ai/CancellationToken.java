@@ -0,0 +1,34 @@
+package com.jack.dicewars.dice_wars.ai;
+
+/**
+ * Tells an AI, and any search it runs, to stop. The controller that runs an AI keeps the token and cancels it when
+ * the Game is torn down; the AI checks it between decisions and its searches check it as they go.
+ *
+ * A CancellationToken can be cancelled from any thread, and stays cancelled.
+ */
+public final class CancellationToken {
+
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a token that is not cancelled.
+     */
+    public CancellationToken() {
+        cancelled = false;
+    }
+
+    /**
+     * Cancels everything this token was given to.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     *
+     * @return True once {@link #cancel()} has been called.
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -4,6 +4,9 @@ import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
 
 /**
  * A DiceWarsAi can decide if it wants to continue selecting Selectables, and then request that they be selected.
+ *
+ * AIs are anytime: given a deadline, an AI that searches stops searching by then and decides with the best move it has
+ * found so far. Given a cancelled {@link CancellationToken}, an AI stops deciding and leaves the Game alone.
  */
 public interface DiceWarsAi {
 
@@ -20,4 +23,14 @@ public interface DiceWarsAi {
      * @return True if this AI deems a Selectable in the Game to be worthy of Selection, false otherwise.
      */
     boolean desiredSelection();
+
+    /**
+     * Limits every decision from now on. desiredSelection returns by the deadline, give or take the time to make one
+     * move, with the best move found so far. Once cancellation is cancelled, desiredSelection returns false and
+     * makeSelection returns null without selecting anything.
+     *
+     * @param deadlineNanos The {@link System#nanoTime()} decisions have to be made by.
+     * @param cancellation Stops this AI once cancelled.
+     */
+    void limit(long deadlineNanos, CancellationToken cancellation);
 }
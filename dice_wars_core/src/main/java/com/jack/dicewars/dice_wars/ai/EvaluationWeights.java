@@ -0,0 +1,177 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The weights a {@link WeightedAi} scores positions with. Each weight multiplies one feature of the position, seen
+ * from the side of the Player whose turn it is. Features are scaled by the size of the board so that weights carry
+ * over between board sizes.
+ *
+ * EvaluationWeights are immutable; {@link #with(int, double)} makes a changed copy.
+ */
+public final class EvaluationWeights {
+
+    /**
+     * The Player's dice minus the mean dice of its living opponents.
+     */
+    public static final int DICE_ADVANTAGE = 0;
+    /**
+     * The number of the Player's Territories that border an enemy.
+     */
+    public static final int FRONTIER_SIZE = 1;
+    /**
+     * The number of Territories in the Player's largest region, which is its reinforcements.
+     */
+    public static final int REGION_SIZE = 2;
+    /**
+     * How many dice the strongest enemy neighbor of each frontier Territory has more than it, added up.
+     */
+    public static final int FRONTIER_EXPOSURE = 3;
+    /**
+     * The number of Territories the Player has.
+     */
+    public static final int TERRITORY_COUNT = 4;
+    /**
+     * How many of the Player's next reinforcements won't fit on its Territories because they are full. Without it a
+     * board full of max value Territories never sees another attack.
+     */
+    public static final int WASTED_REINFORCEMENTS = 5;
+    /**
+     * The number of weights.
+     */
+    public static final int COUNT = 6;
+
+    private static final String[] NAMES = {"diceAdvantage", "frontierSize", "regionSize", "frontierExposure",
+            "territoryCount", "wastedReinforcements"};
+
+    /**
+     * Hand picked weights that play reasonably before any tuning.
+     */
+    public static final EvaluationWeights DEFAULT = new EvaluationWeights(new double[]{1, -0.5, 2, -0.5, 2, -1});
+
+    /**
+     * The score of a position where the current owner has won, better than any weighted sum.
+     */
+    public static final double WON = 1e6;
+
+    private final double[] weights;
+
+    /**
+     *
+     * @param weights One weight per feature, indexed by {@link #DICE_ADVANTAGE} and the other feature constants.
+     */
+    public EvaluationWeights(double[] weights) {
+        if (weights.length != COUNT) {
+            throw new IllegalArgumentException("Expected " + COUNT + " weights, got " + weights.length);
+        }
+        this.weights = weights.clone();
+    }
+
+    /**
+     *
+     * @param feature A feature constant such as {@link #DICE_ADVANTAGE}.
+     * @return The weight of the feature.
+     */
+    public double get(int feature) {
+        return weights[feature];
+    }
+
+    /**
+     *
+     * @param feature A feature constant such as {@link #DICE_ADVANTAGE}.
+     * @param weight The new weight of the feature.
+     * @return A copy of these weights with one weight changed.
+     */
+    public EvaluationWeights with(int feature, double weight) {
+        final double[] changed = weights.clone();
+        changed[feature] = weight;
+        return new EvaluationWeights(changed);
+    }
+
+    /**
+     *
+     * @return A copy of every weight, indexed by feature.
+     */
+    public double[] toArray() {
+        return weights.clone();
+    }
+
+    /**
+     *
+     * @param feature A feature constant such as {@link #DICE_ADVANTAGE}.
+     * @return The name of the feature, as used by {@link #toString()}.
+     */
+    public static String name(int feature) {
+        return NAMES[feature];
+    }
+
+    /**
+     * Scores a position for the owner whose turn it is.
+     *
+     * @param state The position.
+     * @return The weighted sum of the position's features, or {@link #WON} if the current owner has won. Higher is
+     * better for the current owner.
+     */
+    public double evaluate(SearchState state) {
+        final int me = state.current();
+        final int territories = state.territories();
+        int myDice = 0;
+        int opponentDice = 0;
+        int frontier = 0;
+        int exposure = 0;
+        int room = 0;
+        for (int t = 0; t < territories; t++) {
+            final int owner = state.owner(t);
+            if (owner == me) {
+                myDice += state.value(t);
+                room += Math.max(0, state.maxValue(me) - state.value(t));
+                if (state.bordersEnemy(t)) {
+                    frontier++;
+                    exposure += Math.max(0, state.strongestEnemy(t) - state.value(t));
+                }
+            } else if (owner != SearchState.COLORLESS) {
+                opponentDice += state.value(t);
+            }
+        }
+        int opponents = 0;
+        for (int who = 1; who < state.owners(); who++) {
+            if (who != me && state.territoryCount(who) > 0) {
+                opponents++;
+            }
+        }
+        if (opponents == 0) {
+            return WON;
+        }
+        final double advantage = myDice - opponentDice / (double) opponents;
+        final int region = state.largestRegion(me);
+        return (weights[DICE_ADVANTAGE] * advantage
+                + weights[FRONTIER_SIZE] * frontier
+                + weights[REGION_SIZE] * region
+                + weights[FRONTIER_EXPOSURE] * exposure
+                + weights[TERRITORY_COUNT] * state.territoryCount(me)
+                + weights[WASTED_REINFORCEMENTS] * Math.max(0, region - room)) / territories;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof EvaluationWeights && Arrays.equals(weights, ((EvaluationWeights) o).weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder s = new StringBuilder();
+        for (int i = 0; i < COUNT; i++) {
+            if (i > 0) {
+                s.append(", ");
+            }
+            s.append(String.format(Locale.US, "%s=%.4f", NAMES[i], weights[i]));
+        }
+        return s.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.PrimaryAction;
+
+/**
+ * Plays a Game to its end without a UI, as fast as its AIs decide. Each Phase gets a new AI from a factory, like the
+ * app does, and no selection is paced or shown, so only the Game's final state matters to whoever runs it.
+ *
+ * A FastForward runs on the caller's thread and nothing else may change the Game while it does.
+ */
+public final class FastForward {
+
+    private final Game game;
+    private final AiFactory factory;
+    private final int maxRounds;
+    private final CancellationToken cancellation;
+
+    /**
+     *
+     * @param game A started Game that only AIs are left to play.
+     * @param factory Creates the AI for each Phase, whoever's it is.
+     * @param maxRounds The Round to give up after if the Game still hasn't ended.
+     * @param cancellation Stops the FastForward between selections once cancelled.
+     */
+    public FastForward(Game game, AiFactory factory, int maxRounds, CancellationToken cancellation) {
+        this.game = game;
+        this.factory = factory;
+        this.maxRounds = maxRounds;
+        this.cancellation = cancellation;
+    }
+
+    /**
+     * Plays Phases until the Game ends, the Round limit is passed or the FastForward is cancelled.
+     *
+     * @return True if the Game ended.
+     */
+    public boolean play() {
+        while (!game.hasEnded() && game.getRoundNum() <= maxRounds && !cancellation.isCancelled()) {
+            final DiceWarsAi ai = factory.create(game);
+            while (!game.hasEnded() && !cancellation.isCancelled() && ai.desiredSelection()) {
+                ai.makeSelection();
+            }
+            if (game.hasEnded() || cancellation.isCancelled()) {
+                break;
+            }
+            while (game.getPrimaryAction() != PrimaryAction.endPhase) {
+                game.doPrimaryAction();
+            }
+            game.doPrimaryAction();
+        }
+        return game.hasEnded();
+    }
+}
@@ -0,0 +1,647 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.dice.BattleOdds;
+import com.jack.dicewars.dice_wars.game.dice.SplitMix64;
+import com.jack.dicewars.dice_wars.game.progression.Phase;
+import com.jack.dicewars.dice_wars.game.progression.ReinforcePhase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An AI that picks attacks with Monte Carlo tree search. The tree covers the rest of the AI's Turn: every attack is a
+ * chance node whose win and loss branches are sampled with the exact odds from the board's BattleOdds, and ending the
+ * Turn is a leaf. Leaves are scored by playing the Game forward a few Turns with a greedy policy for every Player.
+ *
+ * The search is root parallel: every core grows its own tree from the same position until the wall clock budget runs
+ * out, then the visit counts of the root moves are added up and the most visited move is made. Each tree's budget
+ * starts when its thread picks it up, so a search queued behind another AI's still gets its time. If no tree was
+ * visited at all, the AI falls back to the attack most likely to win, like a {@link SimpleAi}. Reinforcements are
+ * planned for the whole Phase by a {@link ReinforcementPlanner}.
+ *
+ * Positions that different orders of attacks lead to share their playouts through a {@link TranspositionTable} that
+ * every thread of the search reads and writes. Once a position has been played out enough times its mean score is
+ * used instead of playing it out again.
+ *
+ * Trees are kept between searches. After an attack is chosen, the subtrees of its win and its loss are cached under
+ * the positions they lead to, so the next search of the Turn starts from the right one. While the Player before it
+ * places its reinforcements, the AI can {@link #ponder(Player)} on a low priority thread: it predicts that the dice
+ * go where a {@link ReinforcementPlanner} puts them, which is where the AIs that plan their Reinforce Phases put them,
+ * and grows the tree of the position its Turn then starts from. A search whose position was already searched this way
+ * keeps that tree and only spends what is left of its budget.
+ */
+public class MctsAi extends AbstractAi {
+
+    /**
+     * Time spent searching for each attack if none is given.
+     */
+    public static final long DEFAULT_BUDGET_MILLIS = 500;
+
+    /**
+     * The root move that ends the Turn instead of attacking.
+     */
+    private static final int END_TURN = -1;
+    /**
+     * Balances trying moves that look good against moves that haven't been tried much, for scores from 0 to 1.
+     */
+    private static final double EXPLORATION = 0.7;
+    /**
+     * How many Turns of all Players a playout lasts before the position is scored.
+     */
+    private static final int PLAYOUT_ROUNDS = 2;
+    /**
+     * Playouts only attack when the attack is at least this likely to win.
+     */
+    private static final double PLAYOUT_MIN_WIN_CHANCE = 0.5;
+
+    /**
+     * The transposition table has 2^TABLE_BITS slots.
+     */
+    private static final int TABLE_BITS = 14;
+    /**
+     * Positions with at least this many playouts in the transposition table are scored without another playout.
+     */
+    private static final int TRUSTED_PLAYOUTS = 8;
+
+    /**
+     * How many positions' trees are kept for reuse.
+     */
+    private static final int CACHED_TREES = 32;
+    /**
+     * Pondering grows its tree in slices of this length until it is stopped.
+     */
+    private static final long PONDER_SLICE_MILLIS = 100;
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Shared by every MctsAi. The threads are daemons so an unfinished search never keeps the process alive.
+     */
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(THREADS, new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "mcts");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    private final long budgetMillis;
+    /**
+     * Seeds the searches. Separate from the Game's Random so that searching never changes the Game's dice.
+     */
+    private final SplitMix64 random;
+    /**
+     * Playout statistics of positions, shared by every search of this AI.
+     */
+    private final TranspositionTable table;
+
+    /**
+     * Search trees by the hash of the position they are rooted at, least recently used first. Guarded by itself.
+     */
+    private final Map<Long, Trees> trees;
+    /**
+     * Predicts the reinforcements that pondering starts from. Created on first use.
+     */
+    private ReinforcementPlanner predictor;
+    /**
+     * The thread pondering for this AI, or null.
+     */
+    private Thread ponderer;
+    /**
+     * Set to stop {@link #ponderer}.
+     */
+    private CancellationToken stopPondering;
+
+    /**
+     * Creates an AI that searches for {@link #DEFAULT_BUDGET_MILLIS} per attack.
+     *
+     * @param game The Game this AI will analyze and make decisions on.
+     */
+    public MctsAi(Game game) {
+        this(game, DEFAULT_BUDGET_MILLIS);
+    }
+
+    /**
+     *
+     * @param game The Game this AI will analyze and make decisions on.
+     * @param budgetMillis The wall clock time to search for each attack.
+     */
+    public MctsAi(Game game, long budgetMillis) {
+        super(game);
+        this.budgetMillis = budgetMillis;
+        random = new SplitMix64();
+        table = new TranspositionTable(TABLE_BITS);
+        trees = new LinkedHashMap<Long, Trees>(CACHED_TREES, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Trees> eldest) {
+                return size() > CACHED_TREES;
+            }
+        };
+    }
+
+    @Override
+    protected int chooseAttack() {
+        return search(new SearchState(game));
+    }
+
+    /**
+     * Searches every core in parallel until the budget runs out, less whatever was already spent on this position.
+     * The search stops early at the deadline or when cancelled, and the most visited move so far is made; a search
+     * with no visits at all makes the {@link #likeliestAttack()} instead.
+     *
+     * @param root The position to search from.
+     * @return The most visited root move, an attack encoded by {@link MoveGenerator} or {@link #END_TURN}.
+     */
+    private int search(SearchState root) {
+        stopPondering();
+        final int[] moves = movesOf(root, new int[root.maxAttacks()]);
+        if (moves.length == 1) {
+            return END_TURN;
+        }
+
+        final Trees reused = takeTrees(root.hash(), moves);
+        final long budgetNanos = Math.max(0, budgetMillis * 1000000L - reused.searchedNanos);
+        final long start = System.nanoTime();
+        final List<Future<int[]>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(POOL.submit(new Searcher(root, reused.roots[i], budgetNanos, random.split(), cancellation())));
+        }
+
+        final long[] visits = new long[moves.length];
+        long totalVisits = 0;
+        for (Future<int[]> result : results) {
+            try {
+                final int[] workerVisits = result.get();
+                for (int m = 0; m < moves.length; m++) {
+                    visits[m] += workerVisits[m];
+                    totalVisits += workerVisits[m];
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("MCTS search failed", e.getCause());
+            }
+        }
+        reused.searchedNanos += System.nanoTime() - start;
+        if (totalVisits == 0) {
+            putTrees(root.hash(), reused);
+            return isCancelled() ? END_TURN : likeliestAttack();
+        }
+
+        int best = moves.length - 1;
+        for (int m = 0; m < moves.length; m++) {
+            if (visits[m] > visits[best]) {
+                best = m;
+            }
+        }
+        if (moves[best] != END_TURN) {
+            keepSubtrees(root, reused, best);
+        }
+        return moves[best];
+    }
+
+    /**
+     * @param position Any position of this AI's Game.
+     * @param buffer Scratch space for {@link SearchState#attacks(int[])}.
+     * @return The attacks of the position followed by {@link #END_TURN}.
+     */
+    private static int[] movesOf(SearchState position, int[] buffer) {
+        final int count = position.attacks(buffer);
+        final int[] moves = new int[count + 1];
+        System.arraycopy(buffer, 0, moves, 0, count);
+        moves[count] = END_TURN;
+        return moves;
+    }
+
+    /**
+     * Removes the trees of a position from the cache so that only one thread grows them, or makes new ones.
+     *
+     * @param hash The hash of the position.
+     * @param moves The moves of the position, which cached trees must match in case of a hash collision.
+     * @return The trees of the position, one root per search thread.
+     */
+    private Trees takeTrees(long hash, int[] moves) {
+        final Trees cached;
+        synchronized (trees) {
+            cached = trees.remove(hash);
+        }
+        final Trees taken = cached != null && Arrays.equals(cached.moves, moves) ? cached : new Trees(moves);
+        for (int i = 0; i < THREADS; i++) {
+            if (taken.roots[i] == null) {
+                taken.roots[i] = new Node(moves);
+            }
+        }
+        return taken;
+    }
+
+    /**
+     * @param hash The hash of the position the trees are rooted at.
+     * @param rooted The trees to keep for a later search.
+     */
+    private void putTrees(long hash, Trees rooted) {
+        synchronized (trees) {
+            trees.put(hash, rooted);
+        }
+    }
+
+    /**
+     * Keeps the subtrees of both outcomes of the chosen attack, with the share of the search time they got.
+     *
+     * @param root The searched position.
+     * @param searched The trees that were grown from root.
+     * @param chosen The index of the chosen move.
+     */
+    private void keepSubtrees(SearchState root, Trees searched, int chosen) {
+        final int move = searched.moves[chosen];
+        long rootVisits = 0;
+        for (Node tree : searched.roots) {
+            rootVisits += tree.totalVisits;
+        }
+        for (int outcome = 0; outcome < 2; outcome++) {
+            final boolean won = outcome == 0;
+            final SearchState after = new SearchState(root);
+            after.attack(MoveGenerator.from(move), MoveGenerator.to(move), won);
+            final Trees subtrees = new Trees(movesOf(after, new int[after.maxAttacks()]));
+            long subtreeVisits = 0;
+            for (int i = 0; i < THREADS; i++) {
+                final Node child = won ? searched.roots[i].wonChild[chosen] : searched.roots[i].lostChild[chosen];
+                if (child != null && Arrays.equals(child.moves, subtrees.moves)) {
+                    subtrees.roots[i] = child;
+                    subtreeVisits += child.totalVisits;
+                }
+            }
+            if (subtreeVisits > 0) {
+                subtrees.searchedNanos = searched.searchedNanos * subtreeVisits / rootVisits;
+                putTrees(after.hash(), subtrees);
+            }
+        }
+    }
+
+    /**
+     * Starts thinking about this AI's next Turn in the background. Callers pick the Player that moves next; as a guard,
+     * this does nothing unless the predicted next Turn really is player's. Replaces any pondering already going on.
+     * Must be called while nothing else changes the Game, such as when its Phase changes.
+     *
+     * @param player The Player this AI plays for.
+     */
+    public void ponder(Player player) {
+        stopPondering();
+        final SearchState predicted = predictNextTurn();
+        if (predicted == null || predicted.isOver() || predicted.current() != predicted.indexOf(player)) {
+            return;
+        }
+        final int[] moves = movesOf(predicted, new int[predicted.maxAttacks()]);
+        if (moves.length == 1) {
+            return;
+        }
+        final CancellationToken stop = new CancellationToken();
+        final Random searchRandom = random.split();
+        ponderer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                final Trees pondered = takeTrees(predicted.hash(), moves);
+                final Searcher searcher = new Searcher(predicted, pondered.roots[0], 0, searchRandom, stop);
+                final long start = System.nanoTime();
+                while (!stop.isCancelled()) {
+                    searcher.grow(System.nanoTime() + PONDER_SLICE_MILLIS * 1000000L);
+                }
+                pondered.searchedNanos += System.nanoTime() - start;
+                putTrees(predicted.hash(), pondered);
+            }
+        }, "mcts-ponder");
+        ponderer.setDaemon(true);
+        ponderer.setPriority(Thread.MIN_PRIORITY);
+        stopPondering = stop;
+        ponderer.start();
+    }
+
+    /**
+     * Predicts the position the next Turn starts from by placing the current Player's remaining reinforcements where
+     * a {@link ReinforcementPlanner} would.
+     *
+     * @return The predicted position, or null if the Game is not in a Reinforce Phase.
+     */
+    SearchState predictNextTurn() {
+        final Phase phase = game.currentPhase();
+        if (!(phase instanceof ReinforcePhase)) {
+            return null;
+        }
+        if (predictor == null) {
+            predictor = new ReinforcementPlanner(board);
+        }
+        predictor.plan(game.currentPlayer(), ((ReinforcePhase) phase).remaining());
+        final SearchState predicted = new SearchState(game);
+        for (int territory = 0; territory < predicted.territories(); territory++) {
+            for (int die = 0; die < predictor.planned(territory); die++) {
+                predicted.makeReinforcement(territory);
+            }
+        }
+        predicted.makePass();
+        return predicted;
+    }
+
+    /**
+     * Stops pondering and waits for the pondering thread to finish. Does nothing if this AI isn't pondering.
+     */
+    public void stopPondering() {
+        if (ponderer == null) {
+            return;
+        }
+        stopPondering.cancel();
+        try {
+            ponderer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        ponderer = null;
+        stopPondering = null;
+    }
+
+    /**
+     * The trees of one position, one root per search thread, and the time already spent growing them.
+     */
+    private static final class Trees {
+
+        private final int[] moves;
+        private final Node[] roots;
+        private long searchedNanos;
+
+        /**
+         * @param moves The moves of the position.
+         */
+        private Trees(int[] moves) {
+            this.moves = moves;
+            roots = new Node[THREADS];
+            searchedNanos = 0;
+        }
+    }
+
+    /**
+     * One node of the tree, a position where the searching Player chooses a move. Children are created when they are
+     * first reached, one for each outcome of each attack.
+     */
+    private static final class Node {
+
+        private final int[] moves;
+        private final int[] visits;
+        private final double[] scores;
+        private final Node[] wonChild;
+        private final Node[] lostChild;
+        private int totalVisits;
+
+        /**
+         * @param moves The moves from this position, attacks followed by {@link #END_TURN}.
+         */
+        private Node(int[] moves) {
+            this.moves = moves;
+            visits = new int[moves.length];
+            scores = new double[moves.length];
+            wonChild = new Node[moves.length];
+            lostChild = new Node[moves.length];
+        }
+
+        /**
+         * Picks an untried move if there is one, otherwise the move with the best upper confidence bound.
+         * @return The index of the move to try.
+         */
+        private int select() {
+            int best = 0;
+            double bestBound = Double.NEGATIVE_INFINITY;
+            final double logTotal = Math.log(totalVisits + 1);
+            for (int m = 0; m < moves.length; m++) {
+                if (visits[m] == 0) {
+                    return m;
+                }
+                final double bound = scores[m] / visits[m] + EXPLORATION * Math.sqrt(logTotal / visits[m]);
+                if (bound > bestBound) {
+                    bestBound = bound;
+                    best = m;
+                }
+            }
+            return best;
+        }
+    }
+
+    /**
+     * Grows one tree from the root position until its budget runs out or until it is stopped.
+     */
+    private final class Searcher implements Callable<int[]> {
+
+        private final SearchState root;
+        private final Node tree;
+        private final long budgetNanos;
+        private final Random random;
+        private final CancellationToken stop;
+        private final BattleOdds odds;
+
+        private final SearchState state;
+        private final int[] buffer;
+        private final Node[] pathNodes;
+        private final int[] pathMoves;
+
+        /**
+         * @param root The position to search from. It is copied, never changed.
+         * @param tree The tree of the root position to grow.
+         * @param budgetNanos How long {@link #call()} searches for, counted from when it starts.
+         * @param random This Searcher's own source of randomness.
+         * @param stop Stops the search early once cancelled.
+         */
+        private Searcher(SearchState root, Node tree, long budgetNanos, Random random, CancellationToken stop) {
+            this.root = root;
+            this.tree = tree;
+            this.budgetNanos = budgetNanos;
+            this.random = random;
+            this.stop = stop;
+            odds = board.getBattleOdds();
+            state = new SearchState(root);
+            buffer = new int[root.maxAttacks()];
+            pathNodes = new Node[root.territories() + 1];
+            pathMoves = new int[root.territories() + 1];
+        }
+
+        /**
+         * Searches for the budget, starting now rather than when the search was submitted, but never past the
+         * AI's deadline.
+         *
+         * @return The visits of each root move.
+         */
+        @Override
+        public int[] call() {
+            return grow(decideBy(System.nanoTime() + budgetNanos));
+        }
+
+        /**
+         * @param deadline The {@link System#nanoTime()} to stop at.
+         * @return The visits of each root move.
+         */
+        private int[] grow(long deadline) {
+            final int me = root.current();
+            // A search that is out of time from the start keeps the tree it was given
+            while (deadline - System.nanoTime() > 0 && !stop.isCancelled()) {
+                iterate(tree, me);
+            }
+            return tree.visits;
+        }
+
+        /**
+         * Selects a path down the tree, expands it by one node, plays out the rest, and records the score.
+         *
+         * @param tree The root node.
+         * @param me The owner index of the searching Player.
+         */
+        private void iterate(Node tree, int me) {
+            state.copyFrom(root);
+            Node node = tree;
+            int depth = 0;
+            boolean expanded = false;
+            while (true) {
+                if (depth == pathNodes.length) {
+                    // Long chains of won attacks can outgrow the path, leave the rest to the playout
+                    finishTurn();
+                    break;
+                }
+                final int m = node.select();
+                pathNodes[depth] = node;
+                pathMoves[depth] = m;
+                depth++;
+                final int move = node.moves[m];
+                if (move == END_TURN) {
+                    state.endTurn(random);
+                    break;
+                }
+                final int from = MoveGenerator.from(move);
+                final int to = MoveGenerator.to(move);
+                final boolean won = random.nextDouble() < odds.attackerWins(state.value(from), state.value(to));
+                state.attack(from, to, won);
+                if (state.isOver()) {
+                    break;
+                }
+                final Node[] children = won ? node.wonChild : node.lostChild;
+                if (children[m] == null) {
+                    children[m] = new Node(movesOf(state, buffer));
+                    expanded = true;
+                    break;
+                }
+                node = children[m];
+            }
+
+            final double score;
+            if (expanded) {
+                score = evaluate(me);
+            } else {
+                playout();
+                score = score(me);
+            }
+            for (int d = 0; d < depth; d++) {
+                final Node visited = pathNodes[d];
+                visited.visits[pathMoves[d]]++;
+                visited.scores[pathMoves[d]] += score;
+                visited.totalVisits++;
+            }
+        }
+
+        /**
+         * Scores a newly expanded position by playing out the rest of the Turn and the Turns after it, unless the
+         * transposition table already has enough playouts of the position.
+         *
+         * @param me The owner index of the searching Player.
+         * @return The score of the position.
+         */
+        private double evaluate(int me) {
+            final long hash = state.hash();
+            final long entry = table.get(hash);
+            final int playouts = entry == TranspositionTable.MISSING ? 0 : (int) (entry >>> Integer.SIZE);
+            final float total = entry == TranspositionTable.MISSING ? 0 : Float.intBitsToFloat((int) entry);
+            if (playouts >= TRUSTED_PLAYOUTS) {
+                return total / playouts;
+            }
+            finishTurn();
+            playout();
+            final double score = score(me);
+            // Another thread may have updated the entry meanwhile, losing one of the updates is fine
+            table.put(hash, ((long) (playouts + 1) << Integer.SIZE)
+                    | (Float.floatToIntBits(total + (float) score) & 0xFFFFFFFFL));
+            return score;
+        }
+
+        /**
+         * Plays the current Turn greedily until no good attack is left, then ends it.
+         */
+        private void finishTurn() {
+            while (!state.isOver()) {
+                final int count = state.attacks(buffer);
+                int chosen = -1;
+                // Start from a random attack so the playouts vary
+                final int offset = count == 0 ? 0 : random.nextInt(count);
+                for (int i = 0; i < count && chosen < 0; i++) {
+                    final int move = buffer[(i + offset) % count];
+                    if (odds.attackerWins(state.value(MoveGenerator.from(move)), state.value(MoveGenerator.to(move)))
+                            >= PLAYOUT_MIN_WIN_CHANCE) {
+                        chosen = move;
+                    }
+                }
+                if (chosen < 0) {
+                    break;
+                }
+                final int from = MoveGenerator.from(chosen);
+                final int to = MoveGenerator.to(chosen);
+                state.attack(from, to, random.nextDouble() < odds.attackerWins(state.value(from), state.value(to)));
+            }
+            if (!state.isOver()) {
+                state.endTurn(random);
+            }
+        }
+
+        /**
+         * Plays {@link #PLAYOUT_ROUNDS} rounds of Turns for every Player with the greedy policy.
+         */
+        private void playout() {
+            final int turns = PLAYOUT_ROUNDS * (state.owners() - 1);
+            for (int turn = 0; turn < turns && !state.isOver(); turn++) {
+                finishTurn();
+            }
+        }
+
+        /**
+         * @param me The owner index of the searching Player.
+         * @return 1 for a won Game, 0 for a lost one, otherwise the Player's share of Territories and reinforcements.
+         */
+        private double score(int me) {
+            if (state.territoryCount(me) == 0) {
+                return 0;
+            }
+            if (state.isOver()) {
+                return 1;
+            }
+            double mine = 0;
+            double total = 0;
+            for (int who = 1; who < state.owners(); who++) {
+                if (state.territoryCount(who) > 0) {
+                    final double strength = state.territoryCount(who) + state.largestRegion(who);
+                    total += strength;
+                    if (who == me) {
+                        mine = strength;
+                    }
+                }
+            }
+            return mine / total;
+        }
+    }
+}
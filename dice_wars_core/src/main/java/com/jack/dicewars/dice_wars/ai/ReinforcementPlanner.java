@@ -0,0 +1,153 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.board.OwnershipLedger;
+
+import java.util.Arrays;
+
+/**
+ * Plans every reinforcement of a Turn at once. The threat to a frontier Territory is how many dice its strongest enemy
+ * neighbor has more than it. Dice are poured onto the frontier like water: the most threatened Territories are raised
+ * first, one die at a time, until they are level with the next most threatened, and so on until the dice or the room
+ * on the frontier run out. Whatever is left goes to interior Territories, which may become frontier later.
+ *
+ * A plan is an allocation of dice per Territory, in the form {@link Game#requestReinforcements(int[])} places in one
+ * batch.
+ */
+public final class ReinforcementPlanner {
+
+    private final MoveGenerator moves;
+    private final OwnershipLedger ledger;
+
+    /**
+     * The dice planned for each Territory, by board index.
+     */
+    private final int[] allocation;
+    /**
+     * The total of {@link #allocation}.
+     */
+    private int total;
+    /**
+     * The Territories that can be reinforced, and the threat to each. Reused between plans.
+     */
+    private final int[] candidates;
+    private final int[] threats;
+
+    /**
+     *
+     * @param board The board to plan reinforcements on.
+     */
+    public ReinforcementPlanner(AbstractBoard board) {
+        moves = board.getMoveGenerator();
+        ledger = board.getLedger();
+        allocation = new int[moves.territories()];
+        candidates = new int[moves.maxReinforcements()];
+        threats = new int[moves.maxReinforcements()];
+        total = 0;
+    }
+
+    /**
+     * Replaces the current plan with a new one for the given Player.
+     *
+     * @param player The Player to reinforce.
+     * @param dice How many dice the Player has to place.
+     * @return How many of the dice the plan places. Less than dice only when every Territory of the Player is full.
+     */
+    public int plan(Player player, int dice) {
+        Arrays.fill(allocation, 0);
+        final int count = moves.reinforcements(player, candidates);
+        final int me = ledger.indexOf(player);
+        final int maxValue = player.getMaxValue();
+
+        // Threat map of the frontier, with interior Territories moved to the back
+        int frontier = 0;
+        int highest = Integer.MIN_VALUE;
+        int lowest = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            final int territory = candidates[i];
+            int strongest = 0;
+            boolean borders = false;
+            for (int n = 0; n < moves.numberOfNeighbors(territory); n++) {
+                final int neighbor = moves.neighborAt(territory, n);
+                final int owner = ledger.ownerIndex(neighbor);
+                if (owner != me && owner != OwnershipLedger.COLORLESS) {
+                    borders = true;
+                    strongest = Math.max(strongest, ledger.value(neighbor));
+                }
+            }
+            if (borders) {
+                final int threat = strongest - ledger.value(territory);
+                candidates[i] = candidates[frontier];
+                threats[i] = threats[frontier];
+                candidates[frontier] = territory;
+                threats[frontier] = threat;
+                frontier++;
+                highest = Math.max(highest, threat);
+                lowest = Math.min(lowest, threat);
+            }
+        }
+
+        int left = dice;
+        // Each level raises every frontier Territory at least that threatened by one die
+        for (int level = highest; left > 0 && frontier > 0; level--) {
+            boolean placed = false;
+            for (int i = 0; i < frontier && left > 0; i++) {
+                final int territory = candidates[i];
+                if (threats[i] >= level && ledger.value(territory) + allocation[territory] < maxValue) {
+                    allocation[territory]++;
+                    left--;
+                    placed = true;
+                }
+            }
+            if (!placed && level < lowest) {
+                // The whole frontier is full
+                break;
+            }
+        }
+        for (int i = frontier; i < count && left > 0; i++) {
+            final int territory = candidates[i];
+            final int room = maxValue - ledger.value(territory);
+            final int placed = Math.min(room, left);
+            allocation[territory] = placed;
+            left -= placed;
+        }
+        total = dice - left;
+        return total;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The dice the current plan places on the Territory.
+     */
+    public int planned(int territory) {
+        return allocation[territory];
+    }
+
+    /**
+     *
+     * @return The total dice the current plan places.
+     */
+    public int total() {
+        return total;
+    }
+
+    /**
+     *
+     * @return A copy of the current plan, the dice to place on each Territory indexed by board index.
+     */
+    public int[] allocation() {
+        return allocation.clone();
+    }
+
+    /**
+     * Drops the current plan, such as once it has been placed.
+     */
+    public void clear() {
+        Arrays.fill(allocation, 0);
+        total = 0;
+    }
+}
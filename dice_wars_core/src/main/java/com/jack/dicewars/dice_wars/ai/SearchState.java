@@ -0,0 +1,540 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.NullPlayer;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.board.OwnershipLedger;
+import com.jack.dicewars.dice_wars.game.board.ZobristKeys;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A copy of a Game's position that AIs can play out without touching the Game. Territories keep their board indexes,
+ * owners are indexes into the Game's turn order, and everything is stored in primitive arrays so that positions are
+ * cheap to copy and to play on. The board's shape is shared between copies since it never changes.
+ *
+ * Owner {@link #COLORLESS} stands for the colorless Territories, owners 1 and up are the Players in turn order.
+ *
+ * Search can explore a position in place: every make method records what it changes on an undo stack, and
+ * {@link #unmake()} reverts the last one exactly in constant time. The undo stack is allocated up front, so searching
+ * with make and unmake does not allocate.
+ *
+ * Every position keeps its Zobrist hash up to date, made with the board's keys plus the key of the owner whose turn it
+ * is, so positions reached by different orders of moves can share work in a {@link TranspositionTable}.
+ */
+public final class SearchState {
+
+    /**
+     * Owner index of colorless Territories.
+     */
+    public static final int COLORLESS = 0;
+    /**
+     * The value an attacking Territory is left with after a battle.
+     */
+    private static final int RESET_VALUE = 1;
+
+    /**
+     * Kinds of undo records.
+     */
+    private static final int MADE_ATTACK = 0;
+    private static final int MADE_REINFORCEMENT = 1;
+    private static final int MADE_PASS = 2;
+    /**
+     * Every undo record is this many ints: the kind, the Territories involved, and their previous values and owner.
+     * Passing the turn keeps the previous owner index in the from slot.
+     */
+    private static final int UNDO_STRIDE = 6;
+    private static final int UNDO_KIND = 0;
+    private static final int UNDO_FROM = 1;
+    private static final int UNDO_TO = 2;
+    private static final int UNDO_FROM_VALUE = 3;
+    private static final int UNDO_TO_VALUE = 4;
+    private static final int UNDO_TO_OWNER = 5;
+    /**
+     * Undo records reserved per Territory before the stack has to grow.
+     */
+    private static final int UNDO_RECORDS_PER_TERRITORY = 16;
+
+    /**
+     * The board's adjacency and attack encoding, shared by every copy.
+     */
+    private final MoveGenerator moves;
+    /**
+     * The Players of each owner index, {@link #COLORLESS} included.
+     */
+    private final Player[] players;
+    /**
+     * The most dice each owner can reinforce a Territory to.
+     */
+    private final int[] maxValue;
+    /**
+     * The board's hashing keys and the ledger owner index of each owner index, which the keys are indexed by.
+     */
+    private final ZobristKeys keys;
+    private final int[] keyOwner;
+
+    private final int[] owner;
+    private final int[] value;
+    private final int[] territoryCount;
+    private int current;
+    private long hash;
+
+    /**
+     * Scratch space for searching regions. A Territory has been reached in the current search if its mark is
+     * {@link #mark}, so the marks never have to be cleared.
+     */
+    private final int[] marks;
+    private int mark;
+    private final int[] scratch;
+
+    /**
+     * Records of the moves made since this position was copied, {@link #UNDO_STRIDE} ints each.
+     */
+    private int[] undo;
+    private int undoSize;
+
+    /**
+     * Copies the position of a Game.
+     *
+     * @param game The Game to copy, which must have been started.
+     */
+    public SearchState(Game game) {
+        moves = game.getBoard().getMoveGenerator();
+        final OwnershipLedger ledger = game.getBoard().getLedger();
+        final List<Player> turnOrder = game.turnOrder();
+        final int territories = moves.territories();
+
+        players = new Player[turnOrder.size() + 1];
+        maxValue = new int[players.length];
+        keys = game.getBoard().getZobristKeys();
+        keyOwner = new int[players.length];
+        players[COLORLESS] = NullPlayer.COLORLESS;
+        keyOwner[COLORLESS] = OwnershipLedger.COLORLESS;
+        for (int i = 0; i < turnOrder.size(); i++) {
+            players[i + 1] = turnOrder.get(i);
+            maxValue[i + 1] = turnOrder.get(i).getMaxValue();
+            keyOwner[i + 1] = ledger.indexOf(turnOrder.get(i));
+        }
+
+        owner = new int[territories];
+        value = new int[territories];
+        territoryCount = new int[players.length];
+        for (int i = 0; i < territories; i++) {
+            owner[i] = indexOf(ledger.owner(i));
+            value[i] = ledger.value(i);
+            territoryCount[owner[i]]++;
+        }
+        current = indexOf(game.currentPlayer());
+        hash = game.getBoard().hash() ^ keys.turnKey(keyOwner[current]);
+
+        marks = new int[territories];
+        mark = 0;
+        scratch = new int[territories];
+        undo = new int[territories * UNDO_RECORDS_PER_TERRITORY * UNDO_STRIDE];
+        undoSize = 0;
+    }
+
+    /**
+     * Copies another SearchState, sharing the board's shape.
+     *
+     * @param other The position to copy.
+     */
+    public SearchState(SearchState other) {
+        moves = other.moves;
+        players = other.players;
+        maxValue = other.maxValue;
+        keys = other.keys;
+        keyOwner = other.keyOwner;
+        owner = other.owner.clone();
+        value = other.value.clone();
+        territoryCount = other.territoryCount.clone();
+        current = other.current;
+        hash = other.hash;
+        marks = new int[owner.length];
+        mark = 0;
+        scratch = new int[owner.length];
+        undo = new int[other.undo.length];
+        undoSize = 0;
+    }
+
+    /**
+     * Overwrites this position with another of the same Game without allocating. The moves made on this position can
+     * no longer be unmade.
+     *
+     * @param other A copy of the same Game.
+     */
+    public void copyFrom(SearchState other) {
+        undoSize = 0;
+        System.arraycopy(other.owner, 0, owner, 0, owner.length);
+        System.arraycopy(other.value, 0, value, 0, value.length);
+        System.arraycopy(other.territoryCount, 0, territoryCount, 0, territoryCount.length);
+        current = other.current;
+        hash = other.hash;
+    }
+
+    /**
+     *
+     * @param player A Player in the Game's turn order, or anything else for colorless.
+     * @return The owner index of player.
+     */
+    public int indexOf(Player player) {
+        for (int i = 1; i < players.length; i++) {
+            if (players[i] == player) {
+                return i;
+            }
+        }
+        return COLORLESS;
+    }
+
+    /**
+     *
+     * @return The most attacks {@link #attacks(int[])} can ever list, the size its buffer needs to be.
+     */
+    public int maxAttacks() {
+        return moves.maxAttacks();
+    }
+
+    /**
+     * Lists every attack the current owner can make, encoded like {@link MoveGenerator#encode(int, int)}.
+     *
+     * @param buffer Receives the encoded attacks. Must hold at least {@link #maxAttacks()} entries.
+     * @return The number of attacks written to buffer.
+     */
+    public int attacks(int[] buffer) {
+        return moves.attacks(owner, value, current, buffer);
+    }
+
+    /**
+     * Applies the outcome of a battle like {@link com.jack.dicewars.dice_wars.game.progression.AttackPhase} does.
+     *
+     * @param from The board index of the attacking Territory.
+     * @param to The board index of the defending Territory.
+     * @param won Whether the attacker rolled higher.
+     */
+    public void attack(int from, int to, boolean won) {
+        toggle(from);
+        if (won) {
+            toggle(to);
+            territoryCount[owner[to]]--;
+            territoryCount[current]++;
+            owner[to] = current;
+            value[to] = value[from] - RESET_VALUE;
+            toggle(to);
+        }
+        value[from] = RESET_VALUE;
+        toggle(from);
+    }
+
+    /**
+     * Applies the outcome of a battle like {@link #attack(int, int, boolean)}, so that it can be unmade.
+     *
+     * @param from The board index of the attacking Territory.
+     * @param to The board index of the defending Territory.
+     * @param won Whether the attacker rolled higher.
+     */
+    public void makeAttack(int from, int to, boolean won) {
+        final int record = pushUndo(MADE_ATTACK);
+        undo[record + UNDO_FROM] = from;
+        undo[record + UNDO_TO] = to;
+        undo[record + UNDO_FROM_VALUE] = value[from];
+        undo[record + UNDO_TO_VALUE] = value[to];
+        undo[record + UNDO_TO_OWNER] = owner[to];
+        attack(from, to, won);
+    }
+
+    /**
+     * Puts one die on a Territory of the current owner, so that it can be unmade. Like the Reinforce Phase, it is up
+     * to the caller to stay within the dice the owner has to place.
+     *
+     * @param territory The board index of a Territory of the current owner below its max value.
+     */
+    public void makeReinforcement(int territory) {
+        final int record = pushUndo(MADE_REINFORCEMENT);
+        undo[record + UNDO_FROM] = territory;
+        undo[record + UNDO_FROM_VALUE] = value[territory];
+        toggle(territory);
+        value[territory]++;
+        toggle(territory);
+    }
+
+    /**
+     * Passes the turn to the next owner that has Territories without reinforcing, so that it can be unmade.
+     */
+    public void makePass() {
+        final int record = pushUndo(MADE_PASS);
+        undo[record + UNDO_FROM] = current;
+        nextTurn();
+    }
+
+    /**
+     * Reverts the last move made with a make method.
+     */
+    public void unmake() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("No move to unmake");
+        }
+        undoSize -= UNDO_STRIDE;
+        final int record = undoSize;
+        switch (undo[record + UNDO_KIND]) {
+            case MADE_ATTACK:
+                final int from = undo[record + UNDO_FROM];
+                final int to = undo[record + UNDO_TO];
+                final int previousOwner = undo[record + UNDO_TO_OWNER];
+                toggle(from);
+                toggle(to);
+                if (owner[to] != previousOwner) {
+                    territoryCount[owner[to]]--;
+                    territoryCount[previousOwner]++;
+                    owner[to] = previousOwner;
+                }
+                value[from] = undo[record + UNDO_FROM_VALUE];
+                value[to] = undo[record + UNDO_TO_VALUE];
+                toggle(from);
+                toggle(to);
+                break;
+            case MADE_REINFORCEMENT:
+                final int territory = undo[record + UNDO_FROM];
+                toggle(territory);
+                value[territory] = undo[record + UNDO_FROM_VALUE];
+                toggle(territory);
+                break;
+            case MADE_PASS:
+                setCurrent(undo[record + UNDO_FROM]);
+                break;
+            default:
+                throw new IllegalStateException("Unknown undo record " + undo[record + UNDO_KIND]);
+        }
+    }
+
+    /**
+     *
+     * @return The number of moves that can be unmade.
+     */
+    public int madeMoves() {
+        return undoSize / UNDO_STRIDE;
+    }
+
+    /**
+     * Starts a new undo record, growing the stack if it is full.
+     *
+     * @param kind What kind of move the record is for.
+     * @return The index of the new record in {@link #undo}.
+     */
+    private int pushUndo(int kind) {
+        if (undoSize == undo.length) {
+            final int[] grown = new int[undo.length * 2];
+            System.arraycopy(undo, 0, grown, 0, undo.length);
+            undo = grown;
+        }
+        final int record = undoSize;
+        undo[record + UNDO_KIND] = kind;
+        undoSize += UNDO_STRIDE;
+        return record;
+    }
+
+    /**
+     * Reinforces the current owner with one die per Territory of its largest region, placed on random Territories
+     * below the max value, then passes the turn to the next owner that has Territories.
+     *
+     * @param random Decides where the dice go.
+     */
+    public void endTurn(Random random) {
+        int dice = largestRegion(current);
+        int open = 0;
+        for (int t = 0; t < owner.length; t++) {
+            if (owner[t] == current && value[t] < maxValue[current]) {
+                scratch[open++] = t;
+            }
+        }
+        while (dice > 0 && open > 0) {
+            final int pick = random.nextInt(open);
+            final int t = scratch[pick];
+            toggle(t);
+            value[t]++;
+            toggle(t);
+            if (value[t] >= maxValue[current]) {
+                scratch[pick] = scratch[--open];
+            }
+            dice--;
+        }
+        nextTurn();
+    }
+
+    /**
+     * Passes the turn to the next owner that has Territories.
+     */
+    private void nextTurn() {
+        int next = current;
+        for (int i = 0; i < players.length - 1; i++) {
+            next = next % (players.length - 1) + 1;
+            if (territoryCount[next] > 0) {
+                break;
+            }
+        }
+        setCurrent(next);
+    }
+
+    /**
+     * @param who The owner index whose turn it is now.
+     */
+    private void setCurrent(int who) {
+        hash ^= keys.turnKey(keyOwner[current]) ^ keys.turnKey(keyOwner[who]);
+        current = who;
+    }
+
+    /**
+     * XORs the key of a Territory's current owner and value into the hash. Called once before and once after the
+     * Territory changes.
+     *
+     * @param territory The board index of a Territory.
+     */
+    private void toggle(int territory) {
+        hash ^= keys.key(territory, keyOwner[owner[territory]], value[territory]);
+    }
+
+    /**
+     *
+     * @return The Zobrist hash of this position, including whose turn it is.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     *
+     * @param who An owner index.
+     * @return The number of Territories in the owner's largest region of connected Territories.
+     */
+    public int largestRegion(int who) {
+        mark++;
+        int largest = 0;
+        for (int start = 0; start < owner.length; start++) {
+            if (owner[start] != who || marks[start] == mark) {
+                continue;
+            }
+            // Flood fill the region of start
+            int head = 0;
+            int tail = 0;
+            scratch[tail++] = start;
+            marks[start] = mark;
+            while (head < tail) {
+                final int t = scratch[head++];
+                for (int n = 0; n < moves.numberOfNeighbors(t); n++) {
+                    final int neighbor = moves.neighborAt(t, n);
+                    if (owner[neighbor] == who && marks[neighbor] != mark) {
+                        marks[neighbor] = mark;
+                        scratch[tail++] = neighbor;
+                    }
+                }
+            }
+            largest = Math.max(largest, tail);
+        }
+        return largest;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return True if a neighbor of the Territory has a different owner.
+     */
+    public boolean bordersEnemy(int territory) {
+        for (int n = 0; n < moves.numberOfNeighbors(territory); n++) {
+            if (owner[moves.neighborAt(territory, n)] != owner[territory]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The most dice on a neighbor with a different owner, or 0 if there is none.
+     */
+    public int strongestEnemy(int territory) {
+        int strongest = 0;
+        for (int n = 0; n < moves.numberOfNeighbors(territory); n++) {
+            final int neighbor = moves.neighborAt(territory, n);
+            if (owner[neighbor] != owner[territory]) {
+                strongest = Math.max(strongest, value[neighbor]);
+            }
+        }
+        return strongest;
+    }
+
+    /**
+     *
+     * @param who An owner index.
+     * @return The most dice the owner can reinforce a Territory to.
+     */
+    public int maxValue(int who) {
+        return maxValue[who];
+    }
+
+    /**
+     *
+     * @return The owner index whose turn it is.
+     */
+    public int current() {
+        return current;
+    }
+
+    /**
+     *
+     * @return The number of owner indexes, {@link #COLORLESS} included.
+     */
+    public int owners() {
+        return players.length;
+    }
+
+    /**
+     *
+     * @return The number of Territories on the board.
+     */
+    public int territories() {
+        return owner.length;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The owner index of the Territory.
+     */
+    public int owner(int territory) {
+        return owner[territory];
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The dice on the Territory.
+     */
+    public int value(int territory) {
+        return value[territory];
+    }
+
+    /**
+     *
+     * @param who An owner index.
+     * @return The number of Territories the owner has.
+     */
+    public int territoryCount(int who) {
+        return territoryCount[who];
+    }
+
+    /**
+     *
+     * @return True if at most one Player has Territories left.
+     */
+    public boolean isOver() {
+        int alive = 0;
+        for (int i = 1; i < territoryCount.length; i++) {
+            if (territoryCount[i] > 0) {
+                alive++;
+            }
+        }
+        return alive <= 1;
+    }
+}
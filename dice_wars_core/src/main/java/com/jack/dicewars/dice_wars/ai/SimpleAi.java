@@ -0,0 +1,25 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+
+/**
+ * This SimpleAi will make the attack it is most likely to win, and only attack if it is more likely to win than to
+ * lose. Attacks are listed by the board's MoveGenerator and their odds are looked up in the board's BattleOdds.
+ * Reinforcements are planned for the whole Phase by a {@link ReinforcementPlanner}.
+ */
+public class SimpleAi extends AbstractAi {
+
+    /**
+     *
+     * @param game The Game this AI will analyze and make decisions on. The AI has access to make selections on
+     * Territories in the Game.
+     */
+    public SimpleAi(Game game) {
+        super(game);
+    }
+
+    @Override
+    protected int chooseAttack() {
+        return likeliestAttack();
+    }
+}
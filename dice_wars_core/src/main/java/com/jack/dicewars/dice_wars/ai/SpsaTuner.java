@@ -0,0 +1,244 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.Debug;
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.game.Configuration;
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.dice.SplitMix64;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Tunes {@link EvaluationWeights} by self-play with simultaneous perturbation stochastic approximation (SPSA). Every
+ * iteration nudges all weights at once in a random direction, plays a {@link Tournament} of WeightedAis with the
+ * weights nudged one way against the weights nudged the other way, and moves the weights towards whichever side won
+ * more. Two sides of games per iteration are enough no matter how many weights there are.
+ *
+ * Progress is checkpointed to a file after every iteration, and a tuner with an existing checkpoint picks up where it
+ * left off. Each iteration's randomness comes from the seed and the iteration number alone, so a resumed run makes the
+ * same moves as one that was never interrupted.
+ */
+public final class SpsaTuner {
+
+    /**
+     * Step size of the weights, a / (k + 1 + A)^alpha at iteration k.
+     */
+    private static final double STEP_GAIN = 0.5;
+    private static final double STEP_STABILITY = 10;
+    private static final double STEP_DECAY = 0.602;
+    /**
+     * How far the weights are nudged to measure the gradient, c / (k + 1)^gamma at iteration k.
+     */
+    private static final double NUDGE_GAIN = 0.2;
+    private static final double NUDGE_DECAY = 0.101;
+
+    /**
+     * Games of tuning that are still going after this many Rounds are draws.
+     */
+    private static final int MAX_ROUNDS = 150;
+
+    private static final String ITERATION_KEY = "iteration";
+    private static final String SEED_KEY = "seed";
+
+    private final List<Configuration> templates;
+    private final int gamesPerIteration;
+    private final long seed;
+    private final File checkpoint;
+    private final int parallelism;
+
+    /**
+     *
+     * @param templates The Configurations games are played with. Every active seat is played by a WeightedAi.
+     * @param gamesPerIteration About how many games to play per iteration, rounded to whole rotations of the
+     * templates.
+     * @param seed The seed of every random decision of the tuning.
+     * @param checkpoint The file progress is saved to and resumed from.
+     */
+    public SpsaTuner(List<Configuration> templates, int gamesPerIteration, long seed, File checkpoint) {
+        if (templates.isEmpty()) {
+            throw new IllegalArgumentException("Tuning needs at least one Configuration");
+        }
+        this.templates = new ArrayList<>(templates);
+        this.gamesPerIteration = gamesPerIteration;
+        this.seed = seed;
+        this.checkpoint = checkpoint;
+        parallelism = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Runs iterations until the given number is reached, resuming from the checkpoint if there is one.
+     *
+     * @param start The weights to start from if there is no checkpoint.
+     * @param iterations The iteration to stop at, counted from the start of tuning rather than from the checkpoint.
+     * @param log Receives a line per iteration, or null.
+     * @return The tuned weights.
+     * @throws IOException If the checkpoint can't be read or written.
+     */
+    public EvaluationWeights tune(EvaluationWeights start, int iterations, PrintStream log) throws IOException {
+        double[] theta = start.toArray();
+        int iteration = 0;
+        if (checkpoint.exists()) {
+            final Properties saved = load();
+            if (Long.parseLong(saved.getProperty(SEED_KEY)) != seed) {
+                throw new IllegalStateException("Checkpoint " + checkpoint + " was made with a different seed");
+            }
+            iteration = Integer.parseInt(saved.getProperty(ITERATION_KEY));
+            for (int i = 0; i < EvaluationWeights.COUNT; i++) {
+                theta[i] = Double.parseDouble(saved.getProperty(EvaluationWeights.name(i)));
+            }
+        }
+
+        for (; iteration < iterations; iteration++) {
+            theta = step(iteration, theta, log);
+            save(iteration + 1, theta);
+        }
+        return new EvaluationWeights(theta);
+    }
+
+    /**
+     * Plays one iteration and moves the weights.
+     *
+     * @param k The number of the iteration, from 0.
+     * @param theta The weights before the iteration.
+     * @param log Receives a line about the iteration, or null.
+     * @return The weights after the iteration.
+     */
+    private double[] step(int k, double[] theta, PrintStream log) {
+        final SplitMix64 random = new SplitMix64(SplitMix64.mix64(seed ^ k));
+        final double nudge = NUDGE_GAIN / Math.pow(k + 1, NUDGE_DECAY);
+        final double[] direction = new double[theta.length];
+        final double[] plus = new double[theta.length];
+        final double[] minus = new double[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            direction[i] = random.nextBoolean() ? 1 : -1;
+            plus[i] = theta[i] + nudge * direction[i];
+            minus[i] = theta[i] - nudge * direction[i];
+        }
+
+        final List<AiFactory> sides = new ArrayList<>();
+        sides.add(factory("plus", new EvaluationWeights(plus)));
+        sides.add(factory("minus", new EvaluationWeights(minus)));
+        final int repeats = Math.max(1, gamesPerIteration / (sides.size() * templates.size()));
+        final TournamentResults results = new Tournament(sides, templates, repeats, random.nextLong(), MAX_ROUNDS,
+                parallelism).play();
+
+        final double difference = results.winRate(0) - results.winRate(1);
+        final double step = STEP_GAIN / Math.pow(k + 1 + STEP_STABILITY, STEP_DECAY);
+        final double[] next = new double[theta.length];
+        for (int i = 0; i < theta.length; i++) {
+            next[i] = theta[i] + step * difference / (2 * nudge * direction[i]);
+        }
+        if (log != null) {
+            log.println("iteration " + k + ": " + new EvaluationWeights(next) + " (plus " + results.wins(0)
+                    + ", minus " + results.wins(1) + ", draws " + results.draws() + ", "
+                    + Math.round(results.gamesPerSecond()) + " games/s)");
+        }
+        return next;
+    }
+
+    /**
+     * @param name The name of the side.
+     * @param weights The weights the side plays with.
+     * @return A factory of WeightedAis with the weights.
+     */
+    private static AiFactory factory(final String name, final EvaluationWeights weights) {
+        return new AiFactory() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public DiceWarsAi create(Game game) {
+                return new WeightedAi(game, weights);
+            }
+        };
+    }
+
+    /**
+     * @return The contents of the checkpoint.
+     * @throws IOException If the checkpoint can't be read.
+     */
+    private Properties load() throws IOException {
+        final Properties saved = new Properties();
+        final InputStream in = new FileInputStream(checkpoint);
+        try {
+            saved.load(in);
+        } finally {
+            in.close();
+        }
+        return saved;
+    }
+
+    /**
+     * Writes the checkpoint to a temporary file first, so that a run stopped while saving never leaves a half
+     * written checkpoint behind.
+     *
+     * @param iteration The number of iterations done.
+     * @param theta The weights after those iterations.
+     * @throws IOException If the checkpoint can't be written.
+     */
+    private void save(int iteration, double[] theta) throws IOException {
+        final Properties saved = new Properties();
+        saved.setProperty(SEED_KEY, Long.toString(seed));
+        saved.setProperty(ITERATION_KEY, Integer.toString(iteration));
+        for (int i = 0; i < theta.length; i++) {
+            saved.setProperty(EvaluationWeights.name(i), Double.toString(theta[i]));
+        }
+        final File temporary = new File(checkpoint.getPath() + ".tmp");
+        final OutputStream out = new FileOutputStream(temporary);
+        try {
+            saved.store(out, "SPSA tuning of EvaluationWeights");
+        } finally {
+            out.close();
+        }
+        // Renaming over an existing file fails on some platforms
+        if (!temporary.renameTo(checkpoint) && !(checkpoint.delete() && temporary.renameTo(checkpoint))) {
+            throw new IOException("Could not replace checkpoint " + checkpoint);
+        }
+    }
+
+    /**
+     * Tunes from the command line on four Player games of every board size.
+     *
+     * @param args The checkpoint file, the number of iterations, and optionally the games per iteration and the seed.
+     * @throws IOException If the checkpoint can't be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: SpsaTuner <checkpoint> <iterations> [games per iteration] [seed]");
+            return;
+        }
+        final int games = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        final long seed = args.length > 3 ? Long.parseLong(args[3]) : 0;
+
+        final String[] names = {"1", "2", "3", "4", "5", "6"};
+        final String[] statuses = {Player.STATUS_AI, Player.STATUS_AI, Player.STATUS_AI, Player.STATUS_AI,
+                Player.STATUS_CLOSED, Player.STATUS_CLOSED};
+        final TerritoryColor[] colors = {TerritoryColor.green, TerritoryColor.red, TerritoryColor.blue,
+                TerritoryColor.yellow, TerritoryColor.purple, TerritoryColor.pink};
+        final List<Configuration> templates = new ArrayList<>();
+        for (int size : new int[]{AbstractBoard.BOARD_SIZE_SMALL, AbstractBoard.BOARD_SIZE_MEDIUM,
+                AbstractBoard.BOARD_SIZE_LARGE}) {
+            final Configuration template = new Configuration(names, statuses, colors, false, false, size);
+            template.setAppMode(Debug.compactGrid.f);
+            templates.add(template);
+        }
+
+        final SpsaTuner tuner = new SpsaTuner(Collections.unmodifiableList(templates), games, seed,
+                new File(args[0]));
+        System.out.println(tuner.tune(EvaluationWeights.DEFAULT, Integer.parseInt(args[1]), System.out));
+    }
+}
@@ -0,0 +1,245 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.GameController;
+import com.jack.dicewars.dice_wars.game.Configuration;
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.dice.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays AIs against each other without a UI, many Games at once. Every Configuration template is played
+ * round robin: the entrants take the template's seats in rotation, so each entrant plays each seat equally often.
+ *
+ * Games are split across a ForkJoinPool one Game per task. Each Game gets its own copy of its template and its own
+ * seed derived from the Tournament's seed, so Games share no mutable state and a Tournament is reproducible as long as
+ * its AIs are.
+ */
+public final class Tournament {
+
+    /**
+     * Games still going after this many Rounds are counted as draws.
+     */
+    public static final int DEFAULT_MAX_ROUNDS = 300;
+    /**
+     * The most entrants a Tournament can have, since each Game records its entrants in the bits of an int.
+     */
+    private static final int MAX_ENTRANTS = Integer.SIZE - 1;
+
+    private final List<AiFactory> entrants;
+    private final List<Configuration> templates;
+    private final int repeats;
+    private final long seed;
+    private final int maxRounds;
+    private final int parallelism;
+
+    /**
+     * Creates a Tournament that uses every core and draws Games after {@link #DEFAULT_MAX_ROUNDS}.
+     *
+     * @param entrants The kinds of AI to play against each other.
+     * @param templates The Configurations to play. Every active seat is played by an entrant.
+     * @param repeats How many times each template is played in every rotation of the entrants.
+     * @param seed The seed every Game's seed is derived from.
+     */
+    public Tournament(List<AiFactory> entrants, List<Configuration> templates, int repeats, long seed) {
+        this(entrants, templates, repeats, seed, DEFAULT_MAX_ROUNDS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     *
+     * @param entrants The kinds of AI to play against each other.
+     * @param templates The Configurations to play. Every active seat is played by an entrant.
+     * @param repeats How many times each template is played in every rotation of the entrants.
+     * @param seed The seed every Game's seed is derived from.
+     * @param maxRounds Games still going after this many Rounds are draws.
+     * @param parallelism How many Games are played at once.
+     */
+    public Tournament(List<AiFactory> entrants, List<Configuration> templates, int repeats, long seed, int maxRounds,
+                      int parallelism) {
+        if (entrants.isEmpty() || entrants.size() > MAX_ENTRANTS) {
+            throw new IllegalArgumentException("A Tournament needs 1 to " + MAX_ENTRANTS + " entrants");
+        }
+        this.entrants = new ArrayList<>(entrants);
+        this.templates = new ArrayList<>(templates);
+        this.repeats = repeats;
+        this.seed = seed;
+        this.maxRounds = maxRounds;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Plays every Game of the Tournament and waits for them to finish.
+     *
+     * @return The win rates, mean Rounds and speed of the Tournament.
+     */
+    public TournamentResults play() {
+        final List<Match> matches = new ArrayList<>();
+        long gameSeed = seed;
+        for (Configuration template : templates) {
+            for (int repeat = 0; repeat < repeats; repeat++) {
+                for (int rotation = 0; rotation < entrants.size(); rotation++) {
+                    gameSeed = SplitMix64.mix64(gameSeed + 1);
+                    matches.add(new Match(template, rotation, gameSeed));
+                }
+            }
+        }
+
+        final long start = System.nanoTime();
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        final List<GameRecord> records;
+        try {
+            records = pool.invoke(new Batch(matches, 0, matches.size()));
+        } finally {
+            pool.shutdown();
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        final String[] names = new String[entrants.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = entrants.get(i).name();
+        }
+        return new TournamentResults(names, records, elapsed);
+    }
+
+    /**
+     * The outcome of one Game.
+     */
+    static final class GameRecord {
+
+        /**
+         * The entrant index of the winner, or -1 for a draw.
+         */
+        final int winner;
+        /**
+         * Bit i is set if entrant i had a seat in the Game.
+         */
+        final int entrantMask;
+        final int rounds;
+
+        /**
+         * @param winner The entrant index of the winner, or -1 for a draw.
+         * @param entrantMask Bit i is set if entrant i had a seat in the Game.
+         * @param rounds The Round the Game ended on.
+         */
+        GameRecord(int winner, int entrantMask, int rounds) {
+            this.winner = winner;
+            this.entrantMask = entrantMask;
+            this.rounds = rounds;
+        }
+    }
+
+    /**
+     * Plays a range of matches, splitting it in half until each task plays one Game.
+     */
+    private final class Batch extends RecursiveTask<List<GameRecord>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<Match> matches;
+        private final int from;
+        private final int to;
+
+        /**
+         * @param matches Every match of the Tournament.
+         * @param from The first match of this batch.
+         * @param to One past the last match of this batch.
+         */
+        private Batch(List<Match> matches, int from, int to) {
+            this.matches = matches;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected List<GameRecord> compute() {
+            if (to - from <= 1) {
+                final List<GameRecord> records = new ArrayList<>(1);
+                if (to > from) {
+                    records.add(matches.get(from).play());
+                }
+                return records;
+            }
+            final int middle = (from + to) >>> 1;
+            final Batch second = new Batch(matches, middle, to);
+            second.fork();
+            final List<GameRecord> records = new Batch(matches, from, middle).compute();
+            records.addAll(second.join());
+            return records;
+        }
+    }
+
+    /**
+     * One Game of the Tournament, which acts as its own headless controller.
+     */
+    private final class Match implements GameController {
+
+        private final Configuration template;
+        private final int rotation;
+        private final long gameSeed;
+
+        /**
+         * @param template The Configuration to copy for the Game.
+         * @param rotation How far the entrants are rotated through the template's seats.
+         * @param gameSeed The seed of the Game.
+         */
+        private Match(Configuration template, int rotation, long gameSeed) {
+            this.template = template;
+            this.rotation = rotation;
+            this.gameSeed = gameSeed;
+        }
+
+        @Override
+        public void onPhaseChange() {
+            // Phases are driven by play()
+        }
+
+        @Override
+        public void onGameEnd() {
+            // The end is checked by FastForward
+        }
+
+        /**
+         * Plays the Game to the end or to the Round limit, one AI per Phase like the app does.
+         *
+         * @return The outcome of the Game.
+         */
+        private GameRecord play() {
+            final Configuration config = new Configuration(template);
+            config.setSeed(gameSeed);
+            final Map<Player, AiFactory> seats = new IdentityHashMap<>();
+            final Map<Player, Integer> entrantOf = new IdentityHashMap<>();
+            int entrantMask = 0;
+            final List<Player> seated = config.activePlayers();
+            for (int seat = 0; seat < seated.size(); seat++) {
+                final int entrant = (seat + rotation) % entrants.size();
+                seats.put(seated.get(seat), entrants.get(entrant));
+                entrantOf.put(seated.get(seat), entrant);
+                entrantMask |= 1 << entrant;
+            }
+
+            final Game game = new Game(config, this);
+            game.start();
+            final AiFactory bySeat = new AiFactory() {
+                @Override
+                public String name() {
+                    return "seats";
+                }
+
+                @Override
+                public DiceWarsAi create(Game game) {
+                    return seats.get(game.currentPlayer()).create(game);
+                }
+            };
+            final boolean ended = new FastForward(game, bySeat, maxRounds, new CancellationToken()).play();
+
+            final int winner = ended ? entrantOf.get(game.getClosedPlayers().get(0)) : -1;
+            return new GameRecord(winner, entrantMask, game.getRoundNum());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The totals of a finished {@link Tournament}: how often each entrant won the Games it had a seat in, how long Games
+ * lasted, and how fast they were played.
+ */
+public final class TournamentResults {
+
+    private final String[] names;
+    private final int[] wins;
+    private final int[] played;
+    private final int games;
+    private final int draws;
+    private final long totalRounds;
+    private final long elapsedNanos;
+
+    /**
+     *
+     * @param names The name of each entrant.
+     * @param records The outcome of every Game.
+     * @param elapsedNanos The wall clock time the Games took.
+     */
+    TournamentResults(String[] names, List<Tournament.GameRecord> records, long elapsedNanos) {
+        this.names = names.clone();
+        wins = new int[names.length];
+        played = new int[names.length];
+        int drawn = 0;
+        long rounds = 0;
+        for (Tournament.GameRecord record : records) {
+            for (int i = 0; i < names.length; i++) {
+                if ((record.entrantMask & (1 << i)) != 0) {
+                    played[i]++;
+                }
+            }
+            if (record.winner < 0) {
+                drawn++;
+            } else {
+                wins[record.winner]++;
+            }
+            rounds += record.rounds;
+        }
+        games = records.size();
+        draws = drawn;
+        totalRounds = rounds;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     *
+     * @return The number of entrants.
+     */
+    public int entrants() {
+        return names.length;
+    }
+
+    /**
+     *
+     * @param entrant The index of an entrant in the Tournament's list.
+     * @return The entrant's name.
+     */
+    public String name(int entrant) {
+        return names[entrant];
+    }
+
+    /**
+     *
+     * @param entrant The index of an entrant in the Tournament's list.
+     * @return The number of Games the entrant won.
+     */
+    public int wins(int entrant) {
+        return wins[entrant];
+    }
+
+    /**
+     *
+     * @param entrant The index of an entrant in the Tournament's list.
+     * @return The number of Games the entrant had at least one seat in.
+     */
+    public int gamesPlayed(int entrant) {
+        return played[entrant];
+    }
+
+    /**
+     *
+     * @param entrant The index of an entrant in the Tournament's list.
+     * @return The fraction of the entrant's Games that it won, or 0 if it played none.
+     */
+    public double winRate(int entrant) {
+        return played[entrant] == 0 ? 0 : wins[entrant] / (double) played[entrant];
+    }
+
+    /**
+     *
+     * @return The number of Games played.
+     */
+    public int games() {
+        return games;
+    }
+
+    /**
+     *
+     * @return The number of Games that hit the Round limit without a winner.
+     */
+    public int draws() {
+        return draws;
+    }
+
+    /**
+     *
+     * @return The mean Round number Games ended on, draws included.
+     */
+    public double meanRounds() {
+        return games == 0 ? 0 : totalRounds / (double) games;
+    }
+
+    /**
+     *
+     * @return Games finished per second of wall clock time.
+     */
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.US, "%d games, %d draws, %.1f mean rounds, %.1f games/s%n", games, draws,
+                meanRounds(), gamesPerSecond()));
+        for (int i = 0; i < names.length; i++) {
+            report.append(String.format(Locale.US, "%s: %d/%d won (%.1f%%)%n", names[i], wins[i], played[i],
+                    100 * winRate(i)));
+        }
+        return report.toString();
+    }
+}
@@ -0,0 +1,86 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed size table from position hashes to one long of data, that any number of search threads can read and write
+ * at once without locking. Each slot holds the data and the hash XORed with the data. A reader only trusts a slot if
+ * the two agree with the hash it is looking for, so a slot that another thread is halfway through writing reads as
+ * missing rather than as someone else's data.
+ *
+ * Colliding positions simply replace each other, so the table never grows and lookups never fail loudly; anything
+ * stored can be lost.
+ */
+public final class TranspositionTable {
+
+    /**
+     * Returned by {@link #get(long)} for positions that aren't in the table. Never stored.
+     */
+    public static final long MISSING = Long.MIN_VALUE;
+
+    /**
+     * Two longs per slot: the hash XORed with the data, then the data.
+     */
+    private final AtomicLongArray slots;
+    private final int mask;
+
+    /**
+     *
+     * @param bits The table has 2^bits slots.
+     */
+    public TranspositionTable(int bits) {
+        if (bits < 0 || bits > Integer.SIZE - 2) {
+            throw new IllegalArgumentException("A table can't have 2^" + bits + " slots");
+        }
+        slots = new AtomicLongArray(2 << bits);
+        mask = (1 << bits) - 1;
+    }
+
+    /**
+     * @param hash A position hash.
+     * @return The index in {@link #slots} of the position's slot.
+     */
+    private int slotOf(long hash) {
+        return ((int) (hash ^ (hash >>> Integer.SIZE)) & mask) << 1;
+    }
+
+    /**
+     *
+     * @param hash A position hash, such as {@link SearchState#hash()}.
+     * @return The data last stored for the position, or {@link #MISSING}.
+     */
+    public long get(long hash) {
+        final int slot = slotOf(hash);
+        final long check = slots.get(slot);
+        final long data = slots.get(slot + 1);
+        if ((check ^ data) != hash) {
+            return MISSING;
+        }
+        return data;
+    }
+
+    /**
+     * Stores data for a position, replacing whatever shared its slot.
+     *
+     * @param hash A position hash, such as {@link SearchState#hash()}.
+     * @param data Anything but {@link #MISSING}.
+     */
+    public void put(long hash, long data) {
+        if (data == MISSING) {
+            throw new IllegalArgumentException("MISSING can't be stored");
+        }
+        writeHalf(hash, data);
+        slots.set(slotOf(hash) + 1, data);
+    }
+
+    /**
+     * Stores only the check word of {@link #put(long, long)}, leaving the slot as a reader sees it in the middle of a
+     * put. Package-private so that tests can tear a slot.
+     *
+     * @param hash A position hash.
+     * @param data The data being stored.
+     */
+    void writeHalf(long hash, long data) {
+        slots.set(slotOf(hash), hash ^ data);
+    }
+}
@@ -0,0 +1,115 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.dice.BattleOdds;
+
+/**
+ * An AI that scores positions with {@link EvaluationWeights} and looks one move ahead. It makes the attack with the
+ * best expected score, weighing the position after a win and after a loss by the BattleOdds, as long as that beats
+ * not attacking. It puts each die of a Reinforce Phase wherever one more die scores best, planning the whole Phase
+ * before placing it in one batch.
+ *
+ * Moves are tried in place on a {@link SearchState} with make and unmake, so the AI is fast enough to play the
+ * thousands of Games that tuning its weights takes.
+ */
+public class WeightedAi extends AbstractAi {
+
+    private final EvaluationWeights weights;
+
+    /**
+     * Reused for listing moves.
+     */
+    private final int[] moves;
+
+    /**
+     * Creates an AI with the {@link EvaluationWeights#DEFAULT} weights.
+     *
+     * @param game The Game this AI will analyze and make decisions on.
+     */
+    public WeightedAi(Game game) {
+        this(game, EvaluationWeights.DEFAULT);
+    }
+
+    /**
+     *
+     * @param game The Game this AI will analyze and make decisions on.
+     * @param weights The weights positions are scored with.
+     */
+    public WeightedAi(Game game, EvaluationWeights weights) {
+        super(game);
+        this.weights = weights;
+        final MoveGenerator generator = board.getMoveGenerator();
+        moves = new int[Math.max(generator.maxAttacks(), generator.maxReinforcements())];
+    }
+
+    /**
+     * Finds the attack with the best expected score, if it is better than not attacking.
+     *
+     * @return The attack, or -1 if not attacking scores best.
+     */
+    @Override
+    protected int chooseAttack() {
+        final SearchState state = new SearchState(game);
+        final BattleOdds odds = board.getBattleOdds();
+        final int count = state.attacks(moves);
+        double bestScore = weights.evaluate(state);
+        int best = -1;
+        for (int i = 0; i < count; i++) {
+            final int from = MoveGenerator.from(moves[i]);
+            final int to = MoveGenerator.to(moves[i]);
+            final double chance = odds.attackerWins(state.value(from), state.value(to));
+            state.makeAttack(from, to, true);
+            final double won = weights.evaluate(state);
+            state.unmake();
+            state.makeAttack(from, to, false);
+            final double lost = weights.evaluate(state);
+            state.unmake();
+            final double expected = chance * won + (1 - chance) * lost;
+            if (expected > bestScore) {
+                bestScore = expected;
+                best = moves[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Places the dice one at a time on a single SearchState, each where it scores best given the dice before it.
+     *
+     * @param dice How many dice the Player has to place.
+     * @return How many dice to place on each Territory, or null if every Territory of the Player is full.
+     */
+    @Override
+    protected int[] allocateReinforcements(int dice) {
+        final int count = board.getMoveGenerator().reinforcements(game.currentPlayer(), moves);
+        final int maxValue = game.currentPlayer().getMaxValue();
+        final SearchState state = new SearchState(game);
+        final int[] allocation = new int[state.territories()];
+        int placed = 0;
+        while (placed < dice) {
+            double bestScore = Double.NEGATIVE_INFINITY;
+            int best = -1;
+            for (int i = 0; i < count; i++) {
+                if (state.value(moves[i]) >= maxValue) {
+                    continue;
+                }
+                state.makeReinforcement(moves[i]);
+                final double score = weights.evaluate(state);
+                state.unmake();
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = moves[i];
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            // Keep the die so the next one is chosen knowing about it
+            state.makeReinforcement(best);
+            allocation[best]++;
+            placed++;
+        }
+        return placed > 0 ? allocation : null;
+    }
+}
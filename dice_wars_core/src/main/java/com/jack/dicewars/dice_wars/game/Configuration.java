@@ -1,16 +1,13 @@
 package com.jack.dicewars.dice_wars.game;
 
-import android.content.Intent;
-import android.os.Bundle;
-import android.os.Parcelable;
 import com.jack.dicewars.dice_wars.TerritoryColor;
 import com.jack.dicewars.dice_wars.Debug;
-import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 /**
  *
@@ -20,11 +17,6 @@ public class Configuration {
 
     private static final int MAX_PLAYERS = 6;
 
-    private static final String PLAYERS_KEY = "players";
-    private static final String COLORLESS_TERRITORY_KEY = "colorlessTerritory";
-    private static final String RANDOM_REINFORCE_KEY = "randomReinforce";
-    private static final String BOARD_SIZE_KEY = "boardSize";
-    private static final java.lang.String APP_MODE_KEY = "appMode";
     public static final String RESTART = "restart";
 
     public static final int DEFAULT_MODE = Debug.gridText.f;
@@ -34,6 +26,14 @@ public class Configuration {
     private boolean randomReinforce;
     private int boardSize;
     private int appMode;
+    /**
+     * The seed of every random decision in a Game played with this Configuration.
+     */
+    private long seed;
+    /**
+     * False until {@link #seed} is set. Until then each Game played with this Configuration picks its own seed.
+     */
+    private boolean seeded;
 
     /**
      * Full constructor for a game Configuration. Forces all of the Configuration properties to be set to their
@@ -61,36 +61,44 @@ public class Configuration {
     }
 
     /**
-     * Defines a Configuration by the extras of the passed intent. Extra keys are defined at {@link #PLAYERS_KEY}.
+     * Defines a Configuration from Players that have already been created, such as Players restored from an Android
+     * Bundle by the app.
      *
-     * @param bundle The intent with extras fully defining this Configuration. TODO update javadoc
+     * @param players Exactly {@link #MAX_PLAYERS} Players, including closed slots.
+     * @param cT Whether this configuration will have colorless territories enabled.
+     * @param rR Whether this configuration will have user defined or random reinforcements.
+     * @param size The size of the board defined by
+     *             {@link com.jack.dicewars.dice_wars.game.board.AbstractBoard#BOARD_SIZE_SMALL}.
+     * @param appMode The app mode flags defined by {@link com.jack.dicewars.dice_wars.Debug}.
      */
-    public Configuration(Bundle bundle) {
-        Parcelable[] parceledPlayers = bundle.getParcelableArray(PLAYERS_KEY);
+    public Configuration(Player[] players, boolean cT, boolean rR, int size, int appMode) {
         for (int i = 0; i < MAX_PLAYERS; i++) {
-            getPlayers()[i] = ((Player) parceledPlayers[i]);
+            getPlayers()[i] = players[i];
         }
-        colorlessTerritory = bundle.getBoolean(COLORLESS_TERRITORY_KEY, false);
-        randomReinforce = bundle.getBoolean(RANDOM_REINFORCE_KEY, false);
-        boardSize = bundle.getInt(BOARD_SIZE_KEY, AbstractBoard.BOARD_SIZE_SMALL);
-        appMode = bundle.getInt(APP_MODE_KEY, DEFAULT_MODE);
+        colorlessTerritory = cT;
+        randomReinforce = rR;
+        boardSize = size;
+        this.appMode = appMode;
     }
 
     /**
-     * Returns the passed intent with the configurations separated into primitive types and matched with string keys
-     * that are defined as this class' members.
+     * Copies a Configuration with new Players, so that a Game played with the copy never changes the original. Useful
+     * for playing many Games from one template at once.
      *
-     *
-     * @param intent The link to the activity that needs configuration settings
-     * @return An intent with extras that fully define a Configuration
+     * @param template The Configuration to copy, including its seed if it has one.
      */
-    public Intent upload(Intent intent) {
-        intent.putExtra(PLAYERS_KEY, getPlayers());
-        intent.putExtra(COLORLESS_TERRITORY_KEY, colorlessTerritory);
-        intent.putExtra(RANDOM_REINFORCE_KEY, randomReinforce);
-        intent.putExtra(BOARD_SIZE_KEY, getBoardSize());
-        intent.putExtra(APP_MODE_KEY, appMode);
-        return intent;
+    public Configuration(Configuration template) {
+        for (int i = 0; i < MAX_PLAYERS; i++) {
+            final Player player = template.getPlayers()[i];
+            getPlayers()[i] = new Player(player.getName(), player.getStatus(), player.getTerritoryColor(),
+                    player.getMaxValue());
+        }
+        colorlessTerritory = template.colorlessTerritory;
+        randomReinforce = template.randomReinforce;
+        boardSize = template.boardSize;
+        appMode = template.appMode;
+        seed = template.seed;
+        seeded = template.seeded;
     }
 
     /**
@@ -150,6 +158,32 @@ public class Configuration {
         this.appMode = appMode;
     }
 
+    /**
+     *
+     * @return Whether a seed has been set. Games never set one, they keep the seed they pick to themselves.
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     *
+     * @return The seed of every random decision in a Game played with this Configuration. Only meaningful if
+     * {@link #isSeeded()}.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Two Games with the same Configuration and seed, given the same selections, play out exactly the same.
+     * @param seed The seed for upcoming games.
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+        seeded = true;
+    }
+
     /**
      *
      * @return The board size code
@@ -185,11 +219,11 @@ public class Configuration {
 
     /**
      * This method will randomize the player order so that the order is different at the start of each game.
+     * @param random The Game's source of randomness.
      */
-    public void randomizePlayerOrder() {
-        // TODO implement my own randomization function... if I feel like it
+    public void randomizePlayerOrder(Random random) {
         final List<Player> playersList = Arrays.asList(players);
-        Collections.shuffle(playersList);
+        Collections.shuffle(playersList, random);
         for (int i = 0; i < players.length; i++) {
             players[i] = playersList.get(i);
         }
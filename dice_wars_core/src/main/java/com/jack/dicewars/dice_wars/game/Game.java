@@ -0,0 +1,521 @@
+package com.jack.dicewars.dice_wars.game;
+
+import com.jack.dicewars.dice_wars.GameController;
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.Debug;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.CompactBoard;
+import com.jack.dicewars.dice_wars.game.board.GridTextBoard;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.dice.SplitMix64;
+import com.jack.dicewars.dice_wars.game.progression.AttackPhase;
+import com.jack.dicewars.dice_wars.game.progression.Phase;
+import com.jack.dicewars.dice_wars.game.progression.ReinforcePhase;
+import com.jack.dicewars.dice_wars.game.progression.Round;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ *
+ * A Game of DiceWars that is driven by User and AI Player actions and structured by Rounds. It ends when one Player
+ * controls all the Territories on the Board.
+ */
+public class Game {
+
+    /**
+     * The constraints for this game defined by the user or group of users. @see Configuration
+     */
+    private Configuration config;
+    /**
+     * Model's reference to the Controller/Listener to that it may fire events as the Model/Observable.
+     */
+    private GameController controller;
+    /**
+     * The seed of {@link #random}: the Configuration's if it has one, otherwise picked by this Game.
+     */
+    private final long seed;
+    /**
+     * The only source of randomness in this Game, seeded by {@link #seed} so a Game can be replayed exactly.
+     */
+    private Random random;
+    /**
+     * The root of the interactive part of the model.
+     */
+    private AbstractBoard board;
+    /**
+     * The current Round that is being played.
+     */
+    private Round round;
+    /**
+     * The number of current Round being played.
+     */
+    private int roundNum;
+    /**
+     * The Primary Action the Player can take to advance the game.
+     */
+    private PrimaryAction primaryAction;
+    /**
+     * An array containing the Players that have been closed (lost) in the order that they were closed during this game.
+     */
+    private ArrayList<Player> closedPlayers;
+    /**
+     * The Territories whose selectable property is currently true.
+     */
+    private Set<Selectable> selectable;
+    /**
+     * The Territories that are selectable in {@link #idlePhase} while no action is pending. While an action is
+     * pending this set is put aside, and it is restored once the action is consumed or undone.
+     */
+    private Set<Selectable> idleSelectable;
+    /**
+     * The Phase that {@link #idleSelectable} was computed for.
+     */
+    private Phase idlePhase;
+    /**
+     * The plan of {@link #idlePhase} that {@link #idleSelectable} was computed with. A Phase may change its plan
+     * without a pending action, such as when it runs out of dice to place.
+     */
+    private Filter idlePlan;
+
+
+    /**
+     * Creates a Game, and determines what app mode this game will use, but does not create a board for the game, call
+     * the start method before beginning a Game.
+     *
+     * @param config Defines all aspects of the Game that can change from one Game to another. Used for setup.
+     * @param controller The controller that will update the View by the status of this Game.
+     */
+    public Game(Configuration config, GameController controller) {
+        this.config = config;
+        this.controller = controller;
+        seed = config.isSeeded() ? config.getSeed() : new SplitMix64().nextLong();
+        random = new SplitMix64(seed);
+        if ((getAppMode() & Debug.compactGrid.f) == Debug.compactGrid.f) {
+            board = new CompactBoard(this, config);
+        } else if ((getAppMode() & Debug.gridText.f) == Debug.gridText.f) {
+            board = new GridTextBoard(this, config);
+        } else {
+            throw new EnumConstantNotPresentException(Debug.class, "App mode does not exist");
+        }
+        round = null;
+        roundNum = 0;
+        primaryAction = PrimaryAction.endPhase;
+        closedPlayers = new ArrayList<>();
+        selectable = new HashSet<>();
+        idleSelectable = selectable;
+        idlePhase = null;
+        idlePlan = null;
+    }
+
+    /**
+     * Initializes this game's board and determines the order of players, as well as who will go first.
+     * Completes setup of the game by initiating the first round, turn, and phase.
+     */
+    public void start() {
+        board.startState();
+        config.randomizePlayerOrder(random);
+        round = new Round(config.activePlayers(), board);
+        roundNum = 1;
+        updateSelectable();
+    }
+
+    /**
+     * Tells whether a certain Territory is selectable based on the Context, which device selected the Territory,
+     * whose Turn it is in the Game, what Phase it is, and what has already been selected.
+     * @param territory The territory that was clicked.
+     */
+    public void requestSelection(Selectable territory) {
+        if (isSelectable(territory)) {
+            territory.setSelected(true);
+            currentPhase().pushTerritory(territory);
+            if (!restoreIdleSelectable()) {
+                updateSelectable();
+            } else {
+                updateChangedSelectable();
+            }
+            updateUserPrimaryAction();
+            checkForLosses();
+        } else if (territory.isSelected()) {
+            // TODO add call to is last selected here to make this a little "smarter"
+            undoPhaseAction();
+            if (!restoreIdleSelectable()) {
+                updateSelectable();
+            }
+            updateUserPrimaryAction();
+        }
+    }
+
+    /**
+     * Records the Players that have lost since the last check, and ends the Game if only one is left.
+     */
+    private void checkForLosses() {
+        //Check if any more players have lost
+        for (Player player : config.getPlayers()) {
+            if (player.getStatus().equals(Player.STATUS_CLOSED) && !closedPlayers.contains(player)) {
+                closedPlayers.add(0, player);
+            }
+        }
+
+        if (round.gameHasEnded()) {
+            // Add the last player who "lost" (the winner)
+            closedPlayers.add(0, round.currentPlayer());
+            controller.onGameEnd();
+        }
+    }
+
+    /**
+     * Makes a chain of attacks in the current Attack Phase, then refreshes what is selectable and checks for losses
+     * once for the whole chain.
+     *
+     * @param attacks The attacks to make in order, each encoded by
+     * {@link com.jack.dicewars.dice_wars.game.board.MoveGenerator#encode(int, int)}.
+     * @param stopOnLoss Whether to end the chain after the first lost attack.
+     * @return The number of attacks made.
+     * @throws IllegalStateException If the current Phase is not an Attack Phase.
+     * @see AttackPhase#attackChain(List, int[], boolean)
+     */
+    public int requestAttackChain(int[] attacks, boolean stopOnLoss) {
+        if (!(currentPhase() instanceof AttackPhase)) {
+            throw new IllegalStateException("Attacks can only be made in an Attack Phase");
+        }
+        final int made = ((AttackPhase) currentPhase()).attackChain(board.getBoard(), attacks, stopOnLoss);
+        if (made > 0) {
+            if (!restoreIdleSelectable()) {
+                updateSelectable();
+            } else {
+                updateChangedSelectable();
+            }
+            updateUserPrimaryAction();
+            checkForLosses();
+        }
+        return made;
+    }
+
+    /**
+     * Places a whole allocation of dice in the current Reinforce Phase with one refresh of what is selectable. Placing
+     * dice never changes owners, so no Player can lose and the Game can't end.
+     *
+     * @param allocation How many dice to place on each Territory, indexed by board index.
+     * @throws IllegalStateException If the current Phase is not a Reinforce Phase.
+     * @see ReinforcePhase#reinforce(List, int[])
+     */
+    public void requestReinforcements(int[] allocation) {
+        if (!(currentPhase() instanceof ReinforcePhase)) {
+            throw new IllegalStateException("Reinforcements can only be placed in a Reinforce Phase");
+        }
+        ((ReinforcePhase) currentPhase()).reinforce(board.getBoard(), allocation);
+        if (!restoreIdleSelectable()) {
+            updateSelectable();
+        } else {
+            updateChangedSelectable();
+        }
+        updateUserPrimaryAction();
+    }
+
+    /**
+     * Updates what should be displayed as the Primary Action based on the game state.
+     */
+    private void updateUserPrimaryAction() {
+        if (getPendingAction()) {
+            primaryAction = PrimaryAction.undo;
+        } else {
+            primaryAction = PrimaryAction.endPhase;
+        }
+    }
+
+    /**
+     * Tells whether a territory is selectable based on the current Phases' criteria and the state of the game.
+     * @param territory The territory requesting to be selected.
+     * @return Whether the territory can be selected
+     */
+    private boolean isSelectable(Selectable territory) {
+        // If it's not the clicker's turn, the clicker can't do anything
+        return board.passesFilter(territory, currentPhase().plan());
+    }
+
+    /**
+     * Resets selectable values on all Territories of this Game's board based on the current Phase's state. Only the
+     * Phase's candidates are searched if it has any.
+     */
+    public void updateSelectable() {
+        final Phase phase = currentPhase();
+        final List<Filterable> candidates = phase.candidates();
+        final Set<Selectable> updated = new HashSet<>();
+        if (candidates == null) {
+            updated.addAll(allSelectable());
+        } else {
+            final Filter plan = phase.plan();
+            for (Filterable candidate : candidates) {
+                if (board.passesFilter(candidate, plan)) {
+                    updated.add((Selectable) candidate);
+                }
+            }
+        }
+        flagSelectable(updated);
+
+        if (!getPendingAction()) {
+            idleSelectable = updated;
+            idlePhase = phase;
+            idlePlan = phase.plan();
+        }
+    }
+
+    /**
+     * Sets the selectable property of exactly the passed Territories, only touching Territories that are flagged now
+     * or will be flagged.
+     * @param updated The Territories that should be selectable.
+     */
+    private void flagSelectable(Set<Selectable> updated) {
+        for (Selectable s : selectable) {
+            s.setSelectable(false);
+        }
+        for (Selectable s : updated) {
+            s.setSelectable(true);
+        }
+        selectable = updated;
+    }
+
+    /**
+     * Flags {@link #idleSelectable} again once the Phase and plan it was computed for have no pending action.
+     * @return True if the idle Territories are flagged, false if they are out of date and a full update is needed.
+     */
+    private boolean restoreIdleSelectable() {
+        if (getPendingAction() || idlePhase != currentPhase() || idlePlan != currentPhase().plan()) {
+            return false;
+        }
+        if (selectable != idleSelectable) {
+            flagSelectable(idleSelectable);
+        }
+        return true;
+    }
+
+    /**
+     * Re-evaluates the Territories that the current Phase's last action changed, along with their neighbors. These
+     * are the only Territories whose selectivity can be affected by an owner or value change.
+     */
+    private void updateChangedSelectable() {
+        final Filter plan = currentPhase().plan();
+        for (Selectable changed : currentPhase().lastChanged()) {
+            updateSelectable(changed, plan);
+            final int neighborCount = changed.numberOfNeighbors();
+            for (int i = 0; i < neighborCount; i++) {
+                updateSelectable((Selectable) changed.neighborAt(i), plan);
+            }
+        }
+    }
+
+    /**
+     * @param territory The Territory to re-evaluate.
+     * @param plan The compiled filters of the current Phase.
+     */
+    private void updateSelectable(Selectable territory, Filter plan) {
+        if (board.passesFilter(territory, plan)) {
+            territory.setSelectable(true);
+            selectable.add(territory);
+        } else {
+            territory.setSelectable(false);
+            selectable.remove(territory);
+        }
+    }
+
+    /**
+     *
+     * @return Returns a list of all selectable Territories based on Filters of the current Phase's state.
+     */
+    public List<Selectable> allSelectable() {
+        return board.allPassing(currentPhase().plan());
+    }
+
+    /**
+     *
+     * @return Returns true if it is the device owners turn.
+     */
+    public boolean myTurn() {
+        return currentPlayerColor().equals(myColor());
+    }
+
+    /**
+     *
+     * @return The color of the device owner player.
+     */
+    private TerritoryColor myColor() {
+        for (Player p : config.activePlayers()) {
+            if (p.isMe()) {
+                return p.getTerritoryColor();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Executes the process initiated by the user Primary Action based on the state of the Game.
+     */
+    public void doPrimaryAction() {
+        boolean pending = getPendingAction();
+        if (pending) {
+            undoPhaseAction();
+            // Call again, because it may be different since the undo
+            pending = getPendingAction();
+        } else {
+            advance();
+        }
+
+        if (pending) {
+            primaryAction = PrimaryAction.undo;
+        } else {
+            primaryAction = PrimaryAction.endPhase;
+        }
+
+        updateSelectable();
+    }
+
+    /**
+     * Reverses the phases action so that the game state is like before it was selected.
+     */
+    private void undoPhaseAction() {
+        round.undoPhaseAction();
+    }
+
+    /**
+     * Advances the game state by one Phase, which may roll over to a new Round or Turn.
+     */
+    public void advance() {
+        if (!round.advance()) {
+            // The Round has ended, start a new one
+            round = new Round(config.activePlayers(), board);
+            roundNum++;
+        }
+        controller.onPhaseChange();
+    }
+
+    /**
+     * Setting this seed on a copy of the Game's Configuration replays the Game.
+     * @return The seed of every random decision in this Game.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Everything random in this Game, from the board layout to dice rolls, must come from here.
+     * @return The Game's seeded source of randomness.
+     */
+    public Random getRandom() {
+        return random;
+    }
+
+    /**
+     *
+     * @return The model data to be updated when users interact with the game.
+     */
+    public AbstractBoard getBoard() {
+        return board;
+    }
+
+    /**
+     *
+     * @return The mode that this game is using to run.
+     */
+    public int getAppMode() {
+        return config.getAppMode();
+    }
+
+    /**
+     *
+     * @return The name of the player currently controlling the turn.
+     */
+    public String currentPlayerName() {
+        return round.currentPlayer().getName();
+    }
+
+    /**
+     *
+     * @return The Player currently controlling the turn.
+     */
+    public Player currentPlayer() {
+        return round.currentPlayer();
+    }
+
+    /**
+     * Later Rounds keep the same order, without the Players that have lost.
+     * @return The Players of the current Round in the order they take Turns, including Players that have lost.
+     */
+    public List<Player> turnOrder() {
+        return round.getPlayers();
+    }
+
+    /**
+     *
+     * @return The color being used by the player currently controlling the turn.
+     */
+    public TerritoryColor currentPlayerColor() {
+        return round.currentPlayer().getTerritoryColor();
+    }
+
+    /**
+     *
+     * @return The current Phase in effect
+     */
+    public Phase currentPhase() {
+        return round.currentPhase();
+    }
+
+    /**
+     *
+     * @return True once only one Player is left.
+     */
+    public boolean hasEnded() {
+        return round.gameHasEnded();
+    }
+
+    /**
+     *
+     * @return True if every Player still in the Game is an AI, such as once the device owner has lost.
+     */
+    public boolean onlyAisRemain() {
+        for (Player player : config.activePlayers()) {
+            if (!player.getStatus().equals(Player.STATUS_AI)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @return The number of rounds this game has been played, including the current round
+     */
+    public int getRoundNum() {
+        return roundNum;
+    }
+
+    /**
+     * @return Whether or not the current phase has selected Territories and is waiting for more selections to resolve
+     * the action.
+     */
+    public boolean getPendingAction() {
+        return round.getPendingAction();
+    }
+
+    /**
+     *
+     * @return The action the game's primary button will currently take.
+     */
+    public PrimaryAction getPrimaryAction() {
+        return primaryAction;
+    }
+
+    /**
+     *
+     * @return Returns all the players that have a "Closed" status, meaning they have already lost this Game.
+     */
+    public ArrayList<Player> getClosedPlayers() {
+        return closedPlayers;
+    }
+}
@@ -10,6 +10,12 @@ import com.jack.dicewars.dice_wars.TerritoryColor;
 public class NullPlayer extends Player {
     public static final String STATUS_COLORLESS = "COLORLESS";
 
+    /**
+     * The owner shared by every colorless Territory. It never owns a Territory of its own color, so it is never
+     * closed.
+     */
+    public static final NullPlayer COLORLESS = new NullPlayer();
+
     /**
      * A typical NullPlayer has a 0 length name, a special status, and uses the Colorless Color enum.
      */
@@ -0,0 +1,106 @@
+package com.jack.dicewars.dice_wars.game;
+
+import com.jack.dicewars.dice_wars.TerritoryColor;
+
+/**
+ *
+ * This class represents a player of a DiceWars game. It can have a name and a Color that it uses to represent itself.
+ * It can have various statuses that describe it's most current role at many times including before, during and
+ * after the game.
+ */
+public class Player {
+
+    // TODO change these strings to a Status enum
+    public static final String STATUS_YOU = "YOU";
+    public static final String STATUS_AI = "AI";
+    public static final String STATUS_HUMAN = "HUMAN";
+    public static final String STATUS_CLOSED = "CLOSED";
+
+    private static final int DEFAULT_MAX_VALUE = 12;
+
+    private String name;
+    private String status;
+    private TerritoryColor territoryColor;
+    /**
+     * An index in the Results rankings that is requested from the Game once this Player's status is update to Closed.
+     */
+    private int place;
+    /**
+     * The maximum value this Player's Territories' can normally have. (i.e. be reinforced to)
+     * TODO this should eventually come from "TerritoryColor properties".
+     */
+    private int maxValue;
+
+    /**
+     *
+     * @param name The player's screen name.
+     * @param status The player's relationship to the game defined by {@link #STATUS_YOU}
+     * @param territoryColor The ID of the color the player is using.
+     */
+    public Player(String name, String status, TerritoryColor territoryColor) {
+        this(name, status, territoryColor, DEFAULT_MAX_VALUE);
+    }
+
+    /**
+     * Restores a Player that has already been given a custom max value, such as one passed between Activities.
+     *
+     * @param name The player's screen name.
+     * @param status The player's relationship to the game defined by {@link #STATUS_YOU}
+     * @param territoryColor The ID of the color the player is using.
+     * @param maxValue The maximum value this Player's Territories can be reinforced to.
+     */
+    public Player(String name, String status, TerritoryColor territoryColor, int maxValue) {
+        this.name = name;
+        this.status = status;
+        this.territoryColor = territoryColor;
+        this.maxValue = maxValue;
+    }
+
+    /**
+     *
+     * @return The Color this Player uses to represent itself on territories and elsewhere.
+     */
+    public TerritoryColor getTerritoryColor() {
+        return territoryColor;
+    }
+
+    /**
+     *
+     * @return The Status this Player is currently has. Can change throughout the Game.
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     *
+     * @return The name of this player
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     *
+     * @return True if this player is the device owner.
+     */
+    public boolean isMe() {
+        return status.equals(STATUS_YOU);
+    }
+
+    /**
+     *
+     * @return The max value this Player can have on his Territories.
+     */
+    public int getMaxValue() {
+        return maxValue;
+    }
+
+    /**
+     * Updates status to closed. Called by the board's
+     * {@link com.jack.dicewars.dice_wars.game.board.OwnershipLedger} when this Player loses its last Territory.
+     */
+    public void close() {
+        status = STATUS_CLOSED;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.jack.dicewars.dice_wars.game;
+
+/**
+ * The actions a Player can take with the Game's primary button. The app decides how each action is described to the
+ * user.
+ */
+public enum PrimaryAction {
+    // Advance the Game to the next Phase
+    endPhase,
+    // Reverse the most recent selection of the current Phase
+    undo
+}
@@ -0,0 +1,417 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.game.Configuration;
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.PrimaryAction;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
+import com.jack.dicewars.dice_wars.game.board.filter.IndexedFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.dice.BattleOdds;
+import com.jack.dicewars.dice_wars.game.dice.DiceRoller;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ *
+ * A board defines connections between Territories, it has different constraints based on its size, amount of
+ * Players, and other factors in Configuration. It has many initial states for each set of constraints.
+ */
+public abstract class AbstractBoard {
+
+    public static final int BOARD_SIZE_SMALL = 0;
+    public static final int BOARD_SIZE_MEDIUM = 1;
+    public static final int BOARD_SIZE_LARGE = 2;
+    /**
+     * Number of dice each Player at the start of the game in addition to their 1 per Territory.
+     */
+    protected static final int DICE_PER_PLAYER = 6;
+
+    private Game game;
+    protected Configuration config;
+    /**
+     * The Game's source of randomness, for laying out the board.
+     */
+    protected Random random;
+
+    /**
+     * Rolls the dice for every Territory on this board.
+     */
+    private DiceRoller diceRoller;
+    /**
+     * The chance of winning every battle that can be fought on this board.
+     */
+    private BattleOdds battleOdds;
+
+    /**
+     * A well ordered list of TerritoryBorders, which also define well ordered connections between themselves. The
+     * specific order is determined by the subclass implementation.
+     */
+    protected List<TerritoryBorder> board;
+
+    /**
+     * Who owns each Territory and how many dice are on it. Every owner and value change goes through here.
+     */
+    private OwnershipLedger ledger;
+    /**
+     * Every Player's groups of connected Territories, kept up to date as Territories change hands.
+     */
+    private RegionTracker regions;
+    /**
+     * Lists legal moves from the board's adjacency, built once the Territories are connected.
+     */
+    private MoveGenerator moveGenerator;
+    /**
+     * Keys for hashing positions of this board.
+     */
+    private ZobristKeys zobristKeys;
+    /**
+     * The Zobrist hash of every Territory's owner and value, kept up to date as they change.
+     */
+    private long hash;
+
+    /**
+     * Secondary index of the board by owner color, indexed by TerritoryColor ordinal.
+     */
+    private TerritoryIndex[] byColor;
+    /**
+     * Secondary index of the board by dice value. Grows when a Territory gets more dice than any before it.
+     */
+    private TerritoryIndex[] byValue;
+
+    /**
+     * Saves the configuration used for making this game because it is important for balancing the number of Players
+     * that start with Territories.
+     * @param game the game this board is contained in.
+     * @param config the configuration which defines constraints for the start states of this board.
+     */
+    public AbstractBoard(Game game, Configuration config) {
+        this.game = game;
+        this.config = config;
+        random = game.getRandom();
+
+        int maxValue = 1;
+        for (Player p : config.getPlayers()) {
+            maxValue = Math.max(maxValue, p.getMaxValue());
+        }
+        diceRoller = new DiceRoller(maxValue, random);
+        battleOdds = new BattleOdds(maxValue);
+    }
+
+    /**
+     * Puts the board in an appropriate state to start the game. Assigns Players some Territories, and values to those
+     * Territories. Amount of territories that are assigned are based on the amount of players and the value of
+     * {@link com.jack.dicewars.dice_wars.game.Configuration#colorlessTerritory}.
+     *
+     */
+    public void startState() {
+        // Supply the board with isolated Territories
+        board = generateLayout();
+        ledger = new OwnershipLedger(config.getPlayers(), board.size());
+        regions = new RegionTracker(board, ledger, ledger.ownerCount());
+        zobristKeys = new ZobristKeys(board.size(), ledger.ownerCount(), diceRoller.maxDice());
+        for (int i = 0; i < board.size(); i++) {
+            board.get(i).attach(this, i);
+        }
+        // Every Territory starts colorless with no dice
+        byColor = new TerritoryIndex[TerritoryColor.values().length];
+        for (int c = 0; c < byColor.length; c++) {
+            byColor[c] = new TerritoryIndex(board.size());
+        }
+        byValue = new TerritoryIndex[0];
+        ensureValueIndex(0);
+        hash = 0;
+        for (int i = 0; i < board.size(); i++) {
+            byColor[TerritoryColor.colorless.ordinal()].add(i);
+            byValue[0].add(i);
+            hash ^= zobristKeys.key(i, OwnershipLedger.COLORLESS, 0);
+        }
+        // Connect the Territories through their TerritoryBorders
+        board = generateGridConnections();
+        moveGenerator = createMoveGenerator(ledger);
+        // Assign players and values
+        board = assignFairly();
+    }
+
+
+    /**
+     *
+     * @return A well ordered list of TerritoryBorders.
+     */
+    protected abstract List<TerritoryBorder> generateLayout();
+
+    /**
+     * This helper method finishes the instantiation of the TerritoryBorders in this Board by connecting them to their
+     * neighbors in a way defined by the subclass' implementation.
+     *
+     * @return The updated List of TerritoryBorders, which now have data on their neighbors in a well defined structure.
+     */
+    protected abstract List<TerritoryBorder> generateGridConnections();
+
+    /**
+     * Called once the TerritoryBorders are connected. Boards that keep their own adjacency arrays should hand them to
+     * the MoveGenerator instead of having them copied.
+     *
+     * @param ledger The ledger of this board.
+     * @return The MoveGenerator of this board.
+     */
+    MoveGenerator createMoveGenerator(OwnershipLedger ledger) {
+        return new MoveGenerator(this, ledger);
+    }
+
+    /**
+     * Attempts to distribute territories to all available Players fairly and gives all Players an equal number of
+     * dice to begin the game. Some territories will be assigned to {@link com.jack.dicewars.dice_wars.game
+     * .NullPlayer} if and only if {@link Configuration#colorlessTerritory} is true for this Board's config.
+     * @return A list of TerritoryBorders where all Players control an approximately equal number of Territories and an
+     * equal number of dice.
+     */
+    protected List<TerritoryBorder> assignFairly() {
+        assignTerritories();
+
+        assignDice();
+
+        return board;
+    }
+
+    /**
+     * Assigns Territories to Players by linking the internal Territory to a Color and registering the Territory with
+     * the Player (for caching). Each player is giving exactly the same amount of Territories (when possible).
+     * Leftovers after distributing evenly are given to random players, unless colorless territories is enabled in
+     * the {@link #config}.
+     */
+    protected abstract void assignTerritories();
+
+    /**
+     * Randomly assigns a preset number of dice based on {@link #DICE_PER_PLAYER}. Each owned territory is guaranteed
+     * to have at least 1 die.
+     */
+    protected abstract void assignDice();
+
+    /**
+     * @param territory The territory requesting to be selected based on the click of it's TerritoryView
+     */
+    public void requestSelection(TerritoryBorder territory) {
+        // Allow selection to be requested only if it is the device owners turn.
+        if (game.myTurn()) {
+            game.requestSelection(territory);
+        }
+    }
+
+    /**
+     * A list of the existing borders (one for each Territory).
+     *
+     * @return The list of TerritoryBorder objects in an order defined by a subclass implementation.
+     */
+    public List<TerritoryBorder> getBoard() {
+        return board;
+    }
+
+    /**
+     *
+     * @return The dice roller shared by every Territory on this board.
+     */
+    public DiceRoller getDiceRoller() {
+        return diceRoller;
+    }
+
+    /**
+     *
+     * @return The chance of winning any battle on this board, for scoring attacks without rolling.
+     */
+    public BattleOdds getBattleOdds() {
+        return battleOdds;
+    }
+
+    /**
+     *
+     * @return The record of who owns each Territory, with per Player Territory counts and dice totals.
+     */
+    public OwnershipLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     *
+     * @return Every Player's groups of connected Territories, such as for calculating reinforcements.
+     */
+    public RegionTracker getRegions() {
+        return regions;
+    }
+
+    /**
+     *
+     * @return Lists the legal attacks and reinforcements of any Player into primitive buffers, for AIs.
+     */
+    public MoveGenerator getMoveGenerator() {
+        return moveGenerator;
+    }
+
+    /**
+     *
+     * @return The keys this board's positions are hashed with, for search positions to hash the same way.
+     */
+    public ZobristKeys getZobristKeys() {
+        return zobristKeys;
+    }
+
+    /**
+     *
+     * @return The Zobrist hash of the current owner and value of every Territory. Equal positions have equal hashes
+     * no matter how they were reached.
+     */
+    public long hash() {
+        return hash;
+    }
+
+    /**
+     * Records a new owner in the ledger, the regions, the color index and the hash. Must be called by anything that
+     * changes the owner of a Territory.
+     *
+     * @param territory The board index of the Territory.
+     * @param newOwner The Player that now owns the Territory.
+     */
+    void transfer(int territory, Player newOwner) {
+        final int oldOwner = ledger.ownerIndex(territory);
+        final TerritoryColor from = ledger.transfer(territory, newOwner).getTerritoryColor();
+        regions.transfer(territory, oldOwner);
+        final int value = ledger.value(territory);
+        hash ^= zobristKeys.key(territory, oldOwner, value);
+        hash ^= zobristKeys.key(territory, ledger.ownerIndex(territory), value);
+        final TerritoryColor to = newOwner.getTerritoryColor();
+        if (from != to) {
+            byColor[from.ordinal()].remove(territory);
+            byColor[to.ordinal()].add(territory);
+        }
+    }
+
+    /**
+     * Records a new value in the ledger, the value index and the hash. Must be called by anything that changes the
+     * dice on a Territory.
+     *
+     * @param territory The board index of the Territory.
+     * @param newValue The new amount of dice.
+     */
+    void setValueAt(int territory, int newValue) {
+        final int from = ledger.setValue(territory, newValue);
+        if (from != newValue) {
+            final int owner = ledger.ownerIndex(territory);
+            hash ^= zobristKeys.key(territory, owner, from) ^ zobristKeys.key(territory, owner, newValue);
+            ensureValueIndex(newValue);
+            byValue[from].remove(territory);
+            byValue[newValue].add(territory);
+        }
+    }
+
+    /**
+     * Grows {@link #byValue} so that it has an index for value.
+     * @param value An amount of dice.
+     */
+    private void ensureValueIndex(int value) {
+        if (value >= byValue.length) {
+            TerritoryIndex[] grown = new TerritoryIndex[value + 1];
+            System.arraycopy(byValue, 0, grown, 0, byValue.length);
+            for (int v = byValue.length; v < grown.length; v++) {
+                grown[v] = new TerritoryIndex(board.size());
+            }
+            byValue = grown;
+        }
+    }
+
+    /**
+     *
+     * @param color A TerritoryColor.
+     * @return The board indexes of every Territory owned by color. The index changes as the game is played.
+     */
+    public TerritoryIndex territoriesOf(TerritoryColor color) {
+        return byColor[color.ordinal()];
+    }
+
+    /**
+     *
+     * @param value An amount of dice.
+     * @return The board indexes of every Territory with exactly that many dice. The index changes as the game is
+     * played.
+     */
+    public TerritoryIndex territoriesWithValue(int value) {
+        ensureValueIndex(value);
+        return byValue[value];
+    }
+
+    /**
+     *
+     * @return One more than the largest value any Territory has had, i.e. the number of value indexes.
+     */
+    public int valueIndexCount() {
+        return byValue.length;
+    }
+
+    /**
+     * Checks territory for the criteria defined by filter. Possible types criteria and the form of their value is
+     * defined by the filters package. Usually filter is the compiled {@link
+     * com.jack.dicewars.dice_wars.game.board.filter.FilterPlan} of a Phase.
+     *
+     * @param territory The territory being checked by filter
+     * @param filter The criteria to check the territory by
+     * @return Whether the territory meets the criteria of filter.
+     */
+    public boolean passesFilter(Filterable territory, Filter filter) {
+        return filter.accepts(territory);
+    }
+
+    /**
+     * Finds every Territory on this board that meets the criteria of filter.
+     *
+     * @param filter The criteria to check each territory by
+     * @return The Territories that pass filter, in board order.
+     */
+    public List<Selectable> allPassing(Filter filter) {
+        List<Selectable> passing = new LinkedList<>();
+        final List<TerritoryIndex> candidates = filter instanceof IndexedFilter
+                ? ((IndexedFilter) filter).candidates(this) : null;
+        if (candidates == null) {
+            for (Selectable territory : board) {
+                if (passesFilter(territory, filter)) {
+                    passing.add(territory);
+                }
+            }
+            return passing;
+        }
+
+        // Only check the Territories in the filter's smallest indexes, then put them back in board order
+        int count = 0;
+        for (TerritoryIndex index : candidates) {
+            count += index.size();
+        }
+        int[] passingIndexes = new int[count];
+        count = 0;
+        for (TerritoryIndex index : candidates) {
+            for (int i = 0; i < index.size(); i++) {
+                final int territory = index.get(i);
+                if (passesFilter(board.get(territory), filter)) {
+                    passingIndexes[count++] = territory;
+                }
+            }
+        }
+        Arrays.sort(passingIndexes, 0, count);
+        for (int i = 0; i < count; i++) {
+            passing.add(board.get(passingIndexes[i]));
+        }
+        return passing;
+    }
+
+    /**
+     *
+     * @return The action the game's primary button will currently take.
+     */
+    public PrimaryAction getPrimaryAction() {
+        return game.getPrimaryAction();
+    }
+
+
+}
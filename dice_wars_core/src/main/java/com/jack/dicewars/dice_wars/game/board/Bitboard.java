@@ -0,0 +1,191 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.TerritoryColor;
+
+/**
+ * A bitboard representation of a row major grid with at most {@link #MAX_TERRITORIES} Territories. Bit i of every
+ * mask stands for the Territory at grid index i. There is one mask per TerritoryColor (and so per Player) and one
+ * mask per dice value, so board wide queries become a few shifts and ANDs instead of walking neighbor lists.
+ */
+public final class Bitboard {
+
+    /**
+     * The largest board that fits in a single long.
+     */
+    public static final int MAX_TERRITORIES = Long.SIZE;
+
+    private final int cols;
+    /**
+     * Every Territory on the board.
+     */
+    private final long all;
+    /**
+     * Every Territory that is not in the first column, i.e. the possible destinations of a shift to the right.
+     */
+    private final long notFirstCol;
+    /**
+     * Every Territory that is not in the last column, i.e. the possible destinations of a shift to the left.
+     */
+    private final long notLastCol;
+
+    /**
+     * Territories owned by each TerritoryColor, indexed by ordinal.
+     */
+    private final long[] colorMasks = new long[TerritoryColor.values().length];
+    /**
+     * Territories with exactly i dice, indexed by i. Grows if a Territory gets more dice than expected.
+     */
+    private long[] valueMasks;
+
+    /**
+     * Creates a Bitboard where every Territory is colorless and has no dice.
+     *
+     * @param rows The number of rows in the grid.
+     * @param cols The number of columns in the grid.
+     * @param maxValue The largest amount of dice expected on one Territory.
+     */
+    public Bitboard(int rows, int cols, int maxValue) {
+        final int size = rows * cols;
+        if (size > MAX_TERRITORIES) {
+            throw new IllegalArgumentException("A bitboard can not hold " + size + " Territories");
+        }
+        this.cols = cols;
+        all = size == MAX_TERRITORIES ? -1L : (1L << size) - 1;
+
+        long firstCol = 0;
+        for (int row = 0; row < rows; row++) {
+            firstCol |= 1L << (row * cols);
+        }
+        notFirstCol = all & ~firstCol;
+        notLastCol = all & ~(firstCol << (cols - 1));
+
+        valueMasks = new long[maxValue + 1];
+        colorMasks[TerritoryColor.colorless.ordinal()] = all;
+        valueMasks[0] = all;
+    }
+
+    /**
+     *
+     * @param size The number of Territories on a board.
+     * @return Whether a board of that size can be represented by a Bitboard.
+     */
+    public static boolean fits(int size) {
+        return size <= MAX_TERRITORIES;
+    }
+
+    /**
+     * Moves a Territory from one color's mask to another's.
+     *
+     * @param territory The grid index of the Territory.
+     * @param from The color that owned the Territory.
+     * @param to The color that now owns the Territory.
+     */
+    public void setColor(int territory, TerritoryColor from, TerritoryColor to) {
+        final long bit = 1L << territory;
+        colorMasks[from.ordinal()] &= ~bit;
+        colorMasks[to.ordinal()] |= bit;
+    }
+
+    /**
+     * Moves a Territory from one value's mask to another's.
+     *
+     * @param territory The grid index of the Territory.
+     * @param from The old amount of dice on the Territory.
+     * @param to The new amount of dice on the Territory.
+     */
+    public void setValue(int territory, int from, int to) {
+        if (to >= valueMasks.length) {
+            long[] grown = new long[to + 1];
+            System.arraycopy(valueMasks, 0, grown, 0, valueMasks.length);
+            valueMasks = grown;
+        }
+        final long bit = 1L << territory;
+        valueMasks[from] &= ~bit;
+        valueMasks[to] |= bit;
+    }
+
+    /**
+     *
+     * @return Every Territory on the board.
+     */
+    public long all() {
+        return all;
+    }
+
+    /**
+     *
+     * @param mask Any set of Territories.
+     * @return Every Territory that touches at least one Territory in mask, found with one shift per direction.
+     */
+    public long neighbors(long mask) {
+        return ((mask << 1) & notFirstCol)
+                | ((mask >>> 1) & notLastCol)
+                | ((mask << cols) & all)
+                | (mask >>> cols);
+    }
+
+    /**
+     *
+     * @param territory The grid index of a Territory.
+     * @return The Territories reachable from that Territory.
+     */
+    public long adjacent(int territory) {
+        return neighbors(1L << territory);
+    }
+
+    /**
+     *
+     * @param color The color to look up.
+     * @return The Territories owned by that color.
+     */
+    public long owned(TerritoryColor color) {
+        return colorMasks[color.ordinal()];
+    }
+
+    /**
+     *
+     * @return The Territories that touch at least one Territory of a different color.
+     */
+    public long hostile() {
+        long hostile = 0;
+        for (long owned : colorMasks) {
+            hostile |= owned & neighbors(all & ~owned);
+        }
+        return hostile;
+    }
+
+    /**
+     *
+     * @param value An amount of dice.
+     * @return The Territories with exactly that many dice.
+     */
+    public long valueEqual(int value) {
+        return value >= 0 && value < valueMasks.length ? valueMasks[value] : 0;
+    }
+
+    /**
+     *
+     * @param value An amount of dice.
+     * @return The Territories with more than that many dice.
+     */
+    public long valueGreater(int value) {
+        long greater = 0;
+        for (int v = Math.max(value + 1, 0); v < valueMasks.length; v++) {
+            greater |= valueMasks[v];
+        }
+        return greater;
+    }
+
+    /**
+     *
+     * @param value An amount of dice.
+     * @return The Territories with fewer than that many dice.
+     */
+    public long valueLess(int value) {
+        long less = 0;
+        for (int v = Math.min(value, valueMasks.length) - 1; v >= 0; v--) {
+            less |= valueMasks[v];
+        }
+        return less;
+    }
+}
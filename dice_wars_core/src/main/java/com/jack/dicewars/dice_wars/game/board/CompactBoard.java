@@ -0,0 +1,246 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.game.Configuration;
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.filter.BitboardFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * A GridTextBoard that stores its Territories as a struct of arrays instead of a graph of objects. Owners and dice
+ * values are primitive arrays indexed by the row major grid index, and neighbors are stored in compressed sparse row
+ * form. The TerritoryBorders handed out by {@link #getBoard()} are flyweights that read and write those arrays, so a
+ * Territory costs a few ints instead of a Territory and a NullPlayer. Owners and dice values are read
+ * straight from the board's {@link OwnershipLedger}.
+ *
+ * Boards of up to {@link Bitboard#MAX_TERRITORIES} Territories also keep a {@link Bitboard} in sync, so that filters
+ * are evaluated for the whole board with a few mask operations.
+ */
+public class CompactBoard extends GridTextBoard {
+
+    /**
+     * The neighbors of Territory i are {@link #neighbors}[neighborStart[i]] to neighbors[neighborStart[i + 1] - 1].
+     */
+    private int[] neighborStart;
+    /**
+     * All neighbor lists, one after another in Territory order.
+     */
+    private int[] neighbors;
+
+    /**
+     * Mask form of the ledger's owners and values, or null if the board is too large to fit in one.
+     */
+    private Bitboard bitboard;
+
+    /**
+     * @param game the game this board is contained in.
+     * @param config the configuration with information about the player count and board size.
+     */
+    public CompactBoard(Game game, Configuration config) {
+        super(game, config);
+    }
+
+    /**
+     * @return A 1D list of flyweight TerritoryBorders that can be translated into a grid with row major order.
+     */
+    @Override
+    protected List<TerritoryBorder> generateLayout() {
+        final int size = getRows() * getCols();
+        if (Bitboard.fits(size)) {
+            int maxValue = 0;
+            for (Player p : config.getPlayers()) {
+                maxValue = Math.max(maxValue, p.getMaxValue());
+            }
+            bitboard = new Bitboard(getRows(), getCols(), maxValue);
+        }
+
+        List<TerritoryBorder> board = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            board.add(new CompactBorder(i));
+        }
+        return board;
+    }
+
+    /**
+     * Builds the compressed sparse row adjacency of the grid. Neighbors are stored in right, down, left, up order to
+     * match {@link GridTextBoard#generateGridConnections()}.
+     *
+     * @return The unchanged list of flyweights, which now read their neighbors from {@link #neighbors}.
+     */
+    @Override
+    protected List<TerritoryBorder> generateGridConnections() {
+        final int rows = getRows();
+        final int cols = getCols();
+        final int size = rows * cols;
+
+        neighborStart = new int[size + 1];
+        neighbors = new int[size * TerritoryBorder.EDGE_MAX_COUNT];
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            neighborStart[i] = next;
+            int rowIndex = i / cols;
+            int colIndex = i % cols;
+            if (colIndex + 1 < cols) {
+                neighbors[next++] = coordinatesToIndex(rowIndex, colIndex + 1, cols);
+            }
+            if (rowIndex + 1 < rows) {
+                neighbors[next++] = coordinatesToIndex(rowIndex + 1, colIndex, cols);
+            }
+            if (colIndex - 1 >= 0) {
+                neighbors[next++] = coordinatesToIndex(rowIndex, colIndex - 1, cols);
+            }
+            if (rowIndex - 1 >= 0) {
+                neighbors[next++] = coordinatesToIndex(rowIndex - 1, colIndex, cols);
+            }
+        }
+        neighborStart[size] = next;
+        return board;
+    }
+
+    /**
+     * Shares the compressed sparse row adjacency instead of copying it, so the board holds it only once.
+     *
+     * @param ledger The ledger of this board.
+     * @return A MoveGenerator reading {@link #neighborStart} and {@link #neighbors}.
+     */
+    @Override
+    MoveGenerator createMoveGenerator(OwnershipLedger ledger) {
+        return new MoveGenerator(this, ledger, neighborStart, neighbors);
+    }
+
+    /**
+     * Also moves the Territory between the color masks of {@link #bitboard}.
+     *
+     * @param territory The index of the Territory changing hands.
+     * @param newOwner The Player taking the Territory.
+     */
+    @Override
+    void transfer(int territory, Player newOwner) {
+        final TerritoryColor from = getLedger().owner(territory).getTerritoryColor();
+        super.transfer(territory, newOwner);
+        if (bitboard != null) {
+            bitboard.setColor(territory, from, newOwner.getTerritoryColor());
+        }
+    }
+
+    /**
+     * Also moves the Territory between the value masks of {@link #bitboard}.
+     *
+     * @param territory The index of the Territory.
+     * @param newValue The new amount of dice on the Territory.
+     */
+    @Override
+    void setValueAt(int territory, int newValue) {
+        final int from = getLedger().value(territory);
+        super.setValueAt(territory, newValue);
+        if (bitboard != null) {
+            bitboard.setValue(territory, from, newValue);
+        }
+    }
+
+    /**
+     *
+     * @param filter The criteria to check Territories by.
+     * @return Whether filter can be checked with {@link #bitboard}.
+     */
+    private boolean usesBitboard(Filter filter) {
+        return bitboard != null && filter instanceof BitboardFilter;
+    }
+
+    @Override
+    public boolean passesFilter(Filterable territory, Filter filter) {
+        if (!usesBitboard(filter) || !(territory instanceof CompactBorder)) {
+            return super.passesFilter(territory, filter);
+        }
+        final long passing = ((BitboardFilter) filter).accepts(bitboard);
+        return ((passing >>> ((CompactBorder) territory).getIndex()) & 1L) != 0;
+    }
+
+    @Override
+    public List<Selectable> allPassing(Filter filter) {
+        if (!usesBitboard(filter)) {
+            return super.allPassing(filter);
+        }
+        List<Selectable> passing = new LinkedList<>();
+        for (long mask = ((BitboardFilter) filter).accepts(bitboard); mask != 0; mask &= mask - 1) {
+            passing.add(board.get(Long.numberOfTrailingZeros(mask)));
+        }
+        return passing;
+    }
+
+    /**
+     * A TerritoryBorder that only knows its index, and reads everything else from the arrays of the enclosing
+     * CompactBoard.
+     */
+    private final class CompactBorder extends TerritoryBorder {
+
+        /**
+         *
+         * @param index The row major grid index of this Territory.
+         */
+        private CompactBorder(int index) {
+            attach(CompactBoard.this, index);
+        }
+
+        @Override
+        public List<Filterable> adjacent() {
+            List<Filterable> adjacent = new LinkedList<>();
+            for (int n = neighborStart[getIndex()]; n < neighborStart[getIndex() + 1]; n++) {
+                adjacent.add(board.get(neighbors[n]));
+            }
+            return adjacent;
+        }
+
+        @Override
+        public TerritoryColor color() {
+            return getLedger().owner(getIndex()).getTerritoryColor();
+        }
+
+        @Override
+        public int value() {
+            return getLedger().value(getIndex());
+        }
+
+        @Override
+        public int numberOfNeighbors() {
+            return neighborStart[getIndex() + 1] - neighborStart[getIndex()];
+        }
+
+        @Override
+        public TerritoryBorder neighborAt(int i) {
+            return board.get(neighbors[neighborStart[getIndex()] + i]);
+        }
+
+        @Override
+        public void setOwnerOfInternal(Player player) {
+            transfer(getIndex(), player);
+        }
+
+        @Override
+        public void transferOwnership(Player player) {
+            transfer(getIndex(), player);
+        }
+
+        @Override
+        public Player owner() {
+            return getLedger().owner(getIndex());
+        }
+
+        @Override
+        public void setValue(int value) {
+            setValueAt(getIndex(), value);
+        }
+
+        @Override
+        public void incrementValue() {
+            setValueAt(getIndex(), value() + 1);
+        }
+    }
+}
@@ -4,33 +4,20 @@ import com.jack.dicewars.dice_wars.TerritoryColor;
 import com.jack.dicewars.dice_wars.game.NullPlayer;
 import com.jack.dicewars.dice_wars.game.Player;
 import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
-import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
 
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
 /**
- *
- * A Territory Border is a model fabrication that encapsulates internal {@link Territory} data when it is not needed.
- * A TerritoryBorders responsibilities revolve around how many other Territories (which actually means
- * TerritoryBorders, it is connected to.
+ * A TerritoryBorder of an object graph board such as {@link GridTextBoard}. It holds its internal {@link Territory}
+ * and references to its neighbors itself, and tells the board it is on about every change so the board's ledger and
+ * indexes stay in step.
  */
-public class TerritoryBorder implements Selectable {
-
-    /**
-     * The exact number of Territories the internal Territory touches.
-     */
-    public static final int EDGE_MAX_COUNT = 4;
-    public static final int MID_EDGE_COUNT = 4;
-    public static final int SIDE_EDGE_COUNT = 3;
-    public static final int CORNER_EDGE_COUNT = 2;
+class GraphBorder extends TerritoryBorder {
 
     private TerritoryBorder[] neighbors;
-
     private Territory internal;
-    private boolean selected;
-    private boolean selectable;
 
     /**
      * Creates a TerritoryBorder with an internal Territory that is owned by
@@ -39,11 +26,9 @@ public class TerritoryBorder implements Selectable {
      *
      * @param edgeCount How many TerritoryBorders can a Player get to from this TerritoryBorder.
      */
-    public TerritoryBorder(int edgeCount) {
-        internal = new Territory(new NullPlayer(), 0);
+    GraphBorder(int edgeCount) {
+        internal = new Territory(NullPlayer.COLORLESS, 0);
         neighbors = new TerritoryBorder[edgeCount];
-        selected = false;
-        selectable = false;
     }
 
     @Override
@@ -61,36 +46,22 @@ public class TerritoryBorder implements Selectable {
         return internal.getValue();
     }
 
-    /**
-     *
-     * @return The number of reachable TerritoryBorders there are from this TerritoryBorder.
-     */
+    @Override
     public int numberOfNeighbors() {
         return neighbors.length;
     }
 
-    /**
-     *
-     * @param neighbors Sets the TerritoryBorders that are reachable from this object.
-     */
-    public void setNeighbors(TerritoryBorder[] neighbors) {
-        this.neighbors = neighbors;
-    }
-
-    /**
-     *
-     * @return The Territory that is encapsulated by this TerritoryBorder.
-     */
-    public Territory getInternal() {
-        return internal;
+    @Override
+    public TerritoryBorder neighborAt(int i) {
+        return neighbors[i];
     }
 
     /**
      *
-     * @param player The Player that now owns the Territory inside of this Border
+     * @param neighbors Sets the TerritoryBorders that are reachable from this object.
      */
-    public void setOwnerOfInternal(Player player) {
-        player.claimOwnership(getInternal());
+    void setNeighbors(TerritoryBorder[] neighbors) {
+        this.neighbors = neighbors;
     }
 
     /**
@@ -103,30 +74,31 @@ public class TerritoryBorder implements Selectable {
     }
 
     /**
-     * Increments the internal Territory's value by one. Useful for ReinforcePhases.
+     *
+     * @return The Territory that is encapsulated by this TerritoryBorder.
      */
-    public void incrementValue() {
-        internal.setValue(internal.getValue() + 1);
-    }
-
-    @Override
-    public boolean isSelected() {
-        return selected;
+    Territory getInternal() {
+        return internal;
     }
 
     @Override
-    public void setSelected(boolean state) {
-        this.selected = state;
+    public void setOwnerOfInternal(Player player) {
+        internal.setOwner(player);
+        if (getAttachedBoard() != null) {
+            getAttachedBoard().transfer(getIndex(), player);
+        }
     }
 
     @Override
-    public boolean isSelectable() {
-        return selectable;
+    public Player owner() {
+        return internal.getOwner();
     }
 
     @Override
-    public void setSelectable(boolean state) {
-        this.selectable = state;
+    public void setValue(int value) {
+        internal.setValue(value);
+        if (getAttachedBoard() != null) {
+            getAttachedBoard().setValueAt(getIndex(), value);
+        }
     }
-
 }
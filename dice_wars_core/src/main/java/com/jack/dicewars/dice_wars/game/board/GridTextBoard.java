@@ -6,9 +6,7 @@ import com.jack.dicewars.dice_wars.game.Game;
 import com.jack.dicewars.dice_wars.game.Player;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Random;
 
 /**
  * A implementation of AbstractBoard that is entirely functional, but exposes as much data as possible for debugging
@@ -45,7 +43,7 @@ public class GridTextBoard extends AbstractBoard {
      */
     protected List<TerritoryBorder> generateLayout() {
 
-        List<TerritoryBorder> board = new LinkedList<>();
+        List<TerritoryBorder> board = new ArrayList<>(getRows() * getCols());
 
         // Create territories (isolated, how they come) and add them to the major board.
 
@@ -53,13 +51,13 @@ public class GridTextBoard extends AbstractBoard {
             for (int j = 0; j < getCols(); j++) {
                 if ((i == 0 || i == getRows() - 1) && (j == 0 || j == getCols() - 1)) {
                     // corner case
-                    board.add(new TerritoryBorder(TerritoryBorder.CORNER_EDGE_COUNT));
+                    board.add(new GraphBorder(TerritoryBorder.CORNER_EDGE_COUNT));
                 } else if (i == 0 || i == getRows() - 1 || j == 0 || j == getCols() - 1) {
                     // edge but not corner
-                    board.add(new TerritoryBorder((TerritoryBorder.SIDE_EDGE_COUNT)));
+                    board.add(new GraphBorder(TerritoryBorder.SIDE_EDGE_COUNT));
                 } else {
                     // interior territories
-                    board.add(new TerritoryBorder((TerritoryBorder.MID_EDGE_COUNT)));
+                    board.add(new GraphBorder(TerritoryBorder.MID_EDGE_COUNT));
                 }
             }
         }
@@ -75,6 +73,8 @@ public class GridTextBoard extends AbstractBoard {
      */
     protected List<TerritoryBorder> generateGridConnections() {
         for (int i = 0; i < board.size(); i++) {
+            // generateLayout only makes GraphBorders
+            final GraphBorder border = (GraphBorder) board.get(i);
             // linear index to XY index
             int rowIndex = i / cols;
             int colIndex = i % cols;
@@ -97,10 +97,10 @@ public class GridTextBoard extends AbstractBoard {
 
             // Add neighbors that exist to this territory's neighbor list
             int addedNeighborsCount = 0;
-            while (absoluteNeighborIndex < TerritoryBorder.EDGE_MAX_COUNT && addedNeighborsCount < board.get(i)
-                    .numberOfNeighbors()) {
+            while (absoluteNeighborIndex < TerritoryBorder.EDGE_MAX_COUNT
+                    && addedNeighborsCount < border.numberOfNeighbors()) {
                 if (neighborsMask[absoluteNeighborIndex]) {
-                    board.get(i).setNeighborAt(addedNeighborsCount, board.get(neighbors[absoluteNeighborIndex]));
+                    border.setNeighborAt(addedNeighborsCount, board.get(neighbors[absoluteNeighborIndex]));
                     addedNeighborsCount++;
                 }
                 absoluteNeighborIndex++;
@@ -122,11 +122,10 @@ public class GridTextBoard extends AbstractBoard {
             perPlayer--;
         }
 
-        Random rand = new Random();
         if ((config.getAppMode() & Debug.easyWin.f) == Debug.easyWin.f) {
             // Give one Territory to all players and the rest to player 1 for an easy win to debug results/etc.
             for (int i = 0; i < activePlayers.size(); i++) {
-                int randomLoc = rand.nextInt(boardCopy.size());
+                int randomLoc = random.nextInt(boardCopy.size());
                 TerritoryBorder current = boardCopy.remove(randomLoc);
                 Player player = activePlayers.get(i);
                 current.setOwnerOfInternal(player);
@@ -143,7 +142,7 @@ public class GridTextBoard extends AbstractBoard {
                 // Assign 1 territory to each player per while loop iteration
                 for (int i = 0; i < activePlayers.size(); i++) {
 
-                    int randomLoc = rand.nextInt(boardCopy.size());
+                    int randomLoc = random.nextInt(boardCopy.size());
                     TerritoryBorder current = boardCopy.remove(randomLoc);
                     Player player = activePlayers.get(i);
                     current.setOwnerOfInternal(player);
@@ -156,7 +155,7 @@ public class GridTextBoard extends AbstractBoard {
         // Territories that were truncated by "board.size() / activePlayers.size()"  will be assigned randomly
         int playerForExtraTerritory;
         while (!boardCopy.isEmpty() && !colorlessTerritory) {
-            playerForExtraTerritory = rand.nextInt(activePlayers.size());
+            playerForExtraTerritory = random.nextInt(activePlayers.size());
             boardCopy.remove(0).setOwnerOfInternal(activePlayers.get(playerForExtraTerritory));
         }
     }
@@ -167,22 +166,21 @@ public class GridTextBoard extends AbstractBoard {
 
         // Guarantee each territory 1 die. TODO decide if territory constructor sets value to 1 (what about colorless?)
         for (Player p : activePlayers) {
-            final List<Territory> territories = p.getTerritories();
-            for (Territory t : territories) {
-                t.setValue(1);
+            final TerritoryIndex territories = territoriesOf(p.getTerritoryColor());
+            for (int i = 0; i < territories.size(); i++) {
+                board.get(territories.get(i)).setValue(1);
             }
         }
 
         // For each Player pick random Territories for each dice
-        Random rand = new Random();
         for (Player p : activePlayers) {
-            final List<Territory> territories = p.getTerritories();
+            final TerritoryIndex territories = territoriesOf(p.getTerritoryColor());
             // Reset dice count for each player
             for (int diceLeft = DICE_PER_PLAYER; diceLeft > 0; diceLeft--) {
                 // Pick a random territory and increment its value
-                final Territory pickedTerritory = territories.get(rand.nextInt(territories.size()));
+                final TerritoryBorder pickedTerritory = board.get(territories.get(random.nextInt(territories.size())));
                 //TODO set a guard for max value
-                pickedTerritory.setValue(pickedTerritory.getValue() + 1);
+                pickedTerritory.incrementValue();
             }
         }
     }
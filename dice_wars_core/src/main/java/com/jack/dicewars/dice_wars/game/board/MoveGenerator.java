@@ -0,0 +1,232 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.Player;
+
+import java.util.List;
+
+/**
+ * Lists the legal moves of a Player straight from the board's adjacency and ledger, without filters or Selectables.
+ * Moves are written into buffers owned by the caller so that AIs can generate them over and over without allocating.
+ *
+ * An attack is encoded as one int, see {@link #encode(int, int)}. The rules are the same as the filters of the
+ * Attack and Reinforce Phases: an attacker is owned by the Player and has more than one die, a defender is a neighbor
+ * owned by anyone else, and a reinforcement target is owned by the Player and below the Player's max value.
+ */
+public final class MoveGenerator {
+
+    /**
+     * The value a Territory needs more than to attack.
+     */
+    private static final int MIN_ATTACK_VALUE = 1;
+    /**
+     * Bits used by the defending Territory of an encoded attack.
+     */
+    private static final int TO_BITS = 16;
+    private static final int TO_MASK = (1 << TO_BITS) - 1;
+
+    private final AbstractBoard board;
+    private final OwnershipLedger ledger;
+
+    /**
+     * The neighbors of Territory i are {@link #neighbors}[neighborStart[i]] to neighbors[neighborStart[i + 1] - 1].
+     */
+    private final int[] neighborStart;
+    private final int[] neighbors;
+
+    /**
+     * Copies the adjacency of a board.
+     *
+     * @param board The board to generate moves on, whose TerritoryBorders must already be connected.
+     * @param ledger The ledger of board.
+     */
+    MoveGenerator(AbstractBoard board, OwnershipLedger ledger) {
+        this(board, ledger, neighborStartOf(board.getBoard()), null);
+    }
+
+    /**
+     * Shares adjacency a board already keeps in compressed sparse row form. The arrays must never change afterwards.
+     *
+     * @param board The board to generate moves on.
+     * @param ledger The ledger of board.
+     * @param neighborStart Where the neighbors of each Territory start in neighbors, with one extra entry at the end.
+     * @param neighbors All neighbor lists, one after another in Territory order, or null to copy them from board.
+     */
+    MoveGenerator(AbstractBoard board, OwnershipLedger ledger, int[] neighborStart, int[] neighbors) {
+        this.board = board;
+        this.ledger = ledger;
+        this.neighborStart = neighborStart;
+        this.neighbors = neighbors != null ? neighbors : neighborsOf(board.getBoard(), neighborStart);
+    }
+
+    /**
+     *
+     * @param borders The connected TerritoryBorders of a board.
+     * @return Where the neighbors of each Territory start in a flat neighbor array.
+     */
+    private static int[] neighborStartOf(List<TerritoryBorder> borders) {
+        final int[] neighborStart = new int[borders.size() + 1];
+        for (int i = 0; i < borders.size(); i++) {
+            neighborStart[i + 1] = neighborStart[i] + borders.get(i).numberOfNeighbors();
+        }
+        return neighborStart;
+    }
+
+    /**
+     *
+     * @param borders The connected TerritoryBorders of a board.
+     * @param neighborStart The result of {@link #neighborStartOf(List)} for borders.
+     * @return The board indexes of all neighbors, one list after another in Territory order.
+     */
+    private static int[] neighborsOf(List<TerritoryBorder> borders, int[] neighborStart) {
+        final int[] neighbors = new int[neighborStart[borders.size()]];
+        for (int i = 0; i < borders.size(); i++) {
+            final TerritoryBorder border = borders.get(i);
+            for (int n = 0; n < border.numberOfNeighbors(); n++) {
+                neighbors[neighborStart[i] + n] = border.neighborAt(n).getIndex();
+            }
+        }
+        return neighbors;
+    }
+
+    /**
+     *
+     * @param from The board index of the attacking Territory.
+     * @param to The board index of the defending Territory.
+     * @return The attack encoded as one int.
+     */
+    public static int encode(int from, int to) {
+        return (from << TO_BITS) | to;
+    }
+
+    /**
+     *
+     * @param attack An encoded attack.
+     * @return The board index of the attacking Territory.
+     */
+    public static int from(int attack) {
+        return attack >>> TO_BITS;
+    }
+
+    /**
+     *
+     * @param attack An encoded attack.
+     * @return The board index of the defending Territory.
+     */
+    public static int to(int attack) {
+        return attack & TO_MASK;
+    }
+
+    /**
+     *
+     * @return The number of Territories on the board.
+     */
+    public int territories() {
+        return neighborStart.length - 1;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The number of neighbors of the Territory.
+     */
+    public int numberOfNeighbors(int territory) {
+        return neighborStart[territory + 1] - neighborStart[territory];
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @param i A number from 0 to {@link #numberOfNeighbors(int)} - 1.
+     * @return The board index of the i-th neighbor of the Territory.
+     */
+    public int neighborAt(int territory, int i) {
+        return neighbors[neighborStart[territory] + i];
+    }
+
+    /**
+     *
+     * @return The most attacks {@link #attacks(Player, int[])} can ever list, the size its buffer needs to be.
+     */
+    public int maxAttacks() {
+        return neighbors.length;
+    }
+
+    /**
+     *
+     * @return The most targets {@link #reinforcements(Player, int[])} can ever list, the size its buffer needs to be.
+     */
+    public int maxReinforcements() {
+        return territories();
+    }
+
+    /**
+     * Lists every attack player can make.
+     *
+     * @param player A Player on the board.
+     * @param buffer Receives the encoded attacks. Must hold at least {@link #maxAttacks()} entries.
+     * @return The number of attacks written to buffer.
+     */
+    public int attacks(Player player, int[] buffer) {
+        final int who = ledger.indexOf(player);
+        final TerritoryIndex owned = board.territoriesOf(player.getTerritoryColor());
+        int count = 0;
+        for (int i = 0; i < owned.size(); i++) {
+            final int from = owned.get(i);
+            if (ledger.value(from) <= MIN_ATTACK_VALUE) {
+                continue;
+            }
+            for (int n = neighborStart[from]; n < neighborStart[from + 1]; n++) {
+                if (ledger.ownerIndex(neighbors[n]) != who) {
+                    buffer[count++] = encode(from, neighbors[n]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lists every attack an owner can make in a position kept outside of the board, such as a search tree's copy.
+     *
+     * @param owner The owner of each Territory, by board index.
+     * @param value The dice on each Territory, by board index.
+     * @param who The owner to list the attacks of.
+     * @param buffer Receives the encoded attacks. Must hold at least {@link #maxAttacks()} entries.
+     * @return The number of attacks written to buffer.
+     */
+    public int attacks(int[] owner, int[] value, int who, int[] buffer) {
+        int count = 0;
+        for (int from = 0; from < owner.length; from++) {
+            if (owner[from] != who || value[from] <= MIN_ATTACK_VALUE) {
+                continue;
+            }
+            for (int n = neighborStart[from]; n < neighborStart[from + 1]; n++) {
+                if (owner[neighbors[n]] != who) {
+                    buffer[count++] = encode(from, neighbors[n]);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lists every Territory player can put a die on. Whether the player has any dice left to place is up to the
+     * Reinforce Phase.
+     *
+     * @param player A Player on the board.
+     * @param buffer Receives the board indexes of the Territories. Must hold at least {@link #maxReinforcements()}
+     * entries.
+     * @return The number of Territories written to buffer.
+     */
+    public int reinforcements(Player player, int[] buffer) {
+        final TerritoryIndex owned = board.territoriesOf(player.getTerritoryColor());
+        final int maxValue = player.getMaxValue();
+        int count = 0;
+        for (int i = 0; i < owned.size(); i++) {
+            final int territory = owned.get(i);
+            if (ledger.value(territory) < maxValue) {
+                buffer[count++] = territory;
+            }
+        }
+        return count;
+    }
+}
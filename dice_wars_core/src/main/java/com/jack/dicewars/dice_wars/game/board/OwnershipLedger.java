@@ -0,0 +1,168 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.NullPlayer;
+import com.jack.dicewars.dice_wars.game.Player;
+
+/**
+ * The single record of who owns each Territory on a board and how many dice are on it. Owners are kept as small
+ * indexes into an array of Players, so a capture is a few array writes no matter how large the board is, and every
+ * Player's Territory count and dice total are always available without walking the board.
+ *
+ * Index {@link #COLORLESS} is {@link NullPlayer#COLORLESS}, the owner shared by every colorless Territory.
+ */
+public final class OwnershipLedger {
+
+    /**
+     * Owner index of Territories that belong to the shared colorless owner.
+     */
+    public static final int COLORLESS = 0;
+
+    /**
+     * Every Player that can own a Territory. Index 0 is the shared colorless owner, the rest are the Players of the
+     * Configuration.
+     */
+    private final Player[] owners;
+    /**
+     * How many Territories each entry of {@link #owners} controls.
+     */
+    private final int[] territoryCount;
+    /**
+     * How many dice each entry of {@link #owners} has across all of its Territories.
+     */
+    private final int[] diceTotal;
+
+    /**
+     * Index into {@link #owners} for each Territory.
+     */
+    private final int[] owner;
+    /**
+     * The dice on each Territory.
+     */
+    private final int[] value;
+
+    /**
+     * Creates a ledger where every Territory is colorless and has no dice.
+     *
+     * @param players The Players of the Configuration.
+     * @param territories The number of Territories on the board.
+     */
+    OwnershipLedger(Player[] players, int territories) {
+        owners = new Player[players.length + 1];
+        owners[COLORLESS] = NullPlayer.COLORLESS;
+        System.arraycopy(players, 0, owners, 1, players.length);
+        territoryCount = new int[owners.length];
+        diceTotal = new int[owners.length];
+
+        owner = new int[territories];
+        value = new int[territories];
+        territoryCount[COLORLESS] = territories;
+    }
+
+    /**
+     *
+     * @param player A Player of this ledger's Configuration, or any NullPlayer.
+     * @return The owner index of player. NullPlayers all share {@link #COLORLESS}.
+     */
+    public int indexOf(Player player) {
+        for (int i = 0; i < owners.length; i++) {
+            if (owners[i] == player) {
+                return i;
+            }
+        }
+        if (player instanceof NullPlayer) {
+            return COLORLESS;
+        }
+        throw new IllegalArgumentException("Player " + player.getName() + " is not on this board");
+    }
+
+    /**
+     * Moves a Territory to a new owner and closes the previous owner if that was its last Territory. The dice on the
+     * Territory move with it.
+     *
+     * @param territory The board index of the Territory changing hands.
+     * @param newOwner The Player taking the Territory.
+     * @return The previous owner of the Territory.
+     */
+    Player transfer(int territory, Player newOwner) {
+        final int oldIndex = owner[territory];
+        final int newIndex = indexOf(newOwner);
+        if (oldIndex != newIndex) {
+            owner[territory] = newIndex;
+            territoryCount[newIndex]++;
+            territoryCount[oldIndex]--;
+            diceTotal[newIndex] += value[territory];
+            diceTotal[oldIndex] -= value[territory];
+            if (territoryCount[oldIndex] == 0 && oldIndex != COLORLESS) {
+                owners[oldIndex].close();
+            }
+        }
+        return owners[oldIndex];
+    }
+
+    /**
+     * Changes the dice on a Territory and its owner's dice total.
+     *
+     * @param territory The board index of the Territory.
+     * @param newValue The new amount of dice on the Territory.
+     * @return The previous amount of dice on the Territory.
+     */
+    int setValue(int territory, int newValue) {
+        final int oldValue = value[territory];
+        value[territory] = newValue;
+        diceTotal[owner[territory]] += newValue - oldValue;
+        return oldValue;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The owner index of the Territory.
+     */
+    public int ownerIndex(int territory) {
+        return owner[territory];
+    }
+
+    /**
+     *
+     * @return The number of owner indexes, including {@link #COLORLESS}.
+     */
+    int ownerCount() {
+        return owners.length;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The Player who owns the Territory.
+     */
+    public Player owner(int territory) {
+        return owners[owner[territory]];
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return The amount of dice on the Territory.
+     */
+    public int value(int territory) {
+        return value[territory];
+    }
+
+    /**
+     *
+     * @param player A Player of this ledger's Configuration, or any NullPlayer for the colorless Territories.
+     * @return How many Territories player owns.
+     */
+    public int territoryCount(Player player) {
+        return territoryCount[indexOf(player)];
+    }
+
+    /**
+     *
+     * @param player A Player of this ledger's Configuration, or any NullPlayer for the colorless Territories.
+     * @return How many dice player has across all of its Territories.
+     */
+    public int diceTotal(Player player) {
+        return diceTotal[indexOf(player)];
+    }
+}
@@ -0,0 +1,239 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.Player;
+
+import java.util.List;
+
+/**
+ * Keeps track of every Player's regions, the groups of connected Territories that share an owner, as Territories
+ * change hands. Regions are a union-find forest over the board indexes, so a captured Territory joins the regions of
+ * its new owner in near constant time. A capture can also split the region it was taken from; only that region is
+ * rebuilt, so the cost is bounded by the size of the region rather than the size of the board.
+ *
+ * Colorless Territories are never grouped into regions since they are never reinforced.
+ */
+public final class RegionTracker {
+
+    private final List<TerritoryBorder> board;
+    private final OwnershipLedger ledger;
+
+    /**
+     * The union-find parent of each Territory. A Territory is the root of its region if it is its own parent.
+     */
+    private final int[] parent;
+    /**
+     * The number of Territories in the region of each root.
+     */
+    private final int[] size;
+    /**
+     * The members of each region form a circular linked list through this array, so a region can be walked without
+     * searching the board.
+     */
+    private final int[] next;
+
+    /**
+     * For each owner index, how many of its regions have each size.
+     */
+    private final int[][] regionsOfSize;
+    /**
+     * The size of the largest region of each owner index.
+     */
+    private final int[] largest;
+
+    /**
+     * Scratch space for the members of a region that is being rebuilt.
+     */
+    private final int[] members;
+
+    /**
+     * Creates a tracker where every Territory is colorless and in no region.
+     *
+     * @param board The well ordered list of TerritoryBorders, which must be connected before any Territory changes
+     * hands.
+     * @param ledger The ledger that owners are read from.
+     * @param owners The number of owner indexes in ledger, including the colorless owner.
+     */
+    RegionTracker(List<TerritoryBorder> board, OwnershipLedger ledger, int owners) {
+        this.board = board;
+        this.ledger = ledger;
+        final int territories = board.size();
+        parent = new int[territories];
+        size = new int[territories];
+        next = new int[territories];
+        for (int i = 0; i < territories; i++) {
+            makeSingleton(i);
+        }
+        regionsOfSize = new int[owners][territories + 1];
+        largest = new int[owners];
+        members = new int[territories];
+    }
+
+    /**
+     * Moves a Territory from the regions of its previous owner to the regions of its new owner. Must be called after
+     * the ledger has recorded the new owner.
+     *
+     * @param territory The board index of the Territory that changed hands.
+     * @param oldOwner The owner index the Territory had.
+     */
+    void transfer(int territory, int oldOwner) {
+        final int newOwner = ledger.ownerIndex(territory);
+        if (oldOwner == newOwner) {
+            return;
+        }
+        if (oldOwner != OwnershipLedger.COLORLESS) {
+            leave(territory, oldOwner);
+        }
+        if (newOwner != OwnershipLedger.COLORLESS) {
+            join(territory, newOwner);
+        }
+    }
+
+    /**
+     * Adds a Territory, which must be a singleton, to the regions of owner and merges it with every neighboring
+     * region of owner.
+     *
+     * @param territory The board index of the Territory.
+     * @param owner The owner index that now owns it.
+     */
+    private void join(int territory, int owner) {
+        countRegion(owner, 1, 1);
+        unionWithNeighbors(territory, owner);
+    }
+
+    /**
+     * Takes a Territory out of the regions of owner. The rest of its region may fall apart into several regions, so
+     * it is rebuilt from its own members.
+     *
+     * @param territory The board index of the Territory.
+     * @param owner The owner index that lost it.
+     */
+    private void leave(int territory, int owner) {
+        final int root = find(territory);
+        countRegion(owner, size[root], -1);
+
+        // Collect the region before the links are reset
+        int memberCount = 0;
+        int member = territory;
+        do {
+            members[memberCount++] = member;
+            member = next[member];
+        } while (member != territory);
+
+        for (int i = 0; i < memberCount; i++) {
+            makeSingleton(members[i]);
+        }
+        // Every member but territory is still owned by owner, so regroup them by their neighbors
+        for (int i = 1; i < memberCount; i++) {
+            countRegion(owner, 1, 1);
+        }
+        for (int i = 1; i < memberCount; i++) {
+            unionWithNeighbors(members[i], owner);
+        }
+
+        while (largest[owner] > 0 && regionsOfSize[owner][largest[owner]] == 0) {
+            largest[owner]--;
+        }
+    }
+
+    /**
+     * @param territory The board index of a Territory owned by owner.
+     * @param owner The owner index of territory.
+     */
+    private void unionWithNeighbors(int territory, int owner) {
+        final TerritoryBorder border = board.get(territory);
+        final int neighborCount = border.numberOfNeighbors();
+        for (int i = 0; i < neighborCount; i++) {
+            final int neighbor = border.neighborAt(i).getIndex();
+            if (ledger.ownerIndex(neighbor) == owner) {
+                union(territory, neighbor, owner);
+            }
+        }
+    }
+
+    /**
+     * Merges the regions of two Territories of the same owner, hanging the smaller region under the larger one.
+     *
+     * @param a The board index of a Territory.
+     * @param b The board index of a Territory with the same owner as a.
+     * @param owner The owner index of both Territories.
+     */
+    private void union(int a, int b, int owner) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return;
+        }
+        if (size[rootA] < size[rootB]) {
+            final int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        countRegion(owner, size[rootA], -1);
+        countRegion(owner, size[rootB], -1);
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        countRegion(owner, size[rootA], 1);
+
+        // Splicing two circular lists together is a swap of one link from each
+        final int swap = next[rootA];
+        next[rootA] = next[rootB];
+        next[rootB] = swap;
+    }
+
+    /**
+     * @param territory The board index of a Territory.
+     * @return The board index of the root of the Territory's region.
+     */
+    private int find(int territory) {
+        int root = territory;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        // Compress the path so later finds are shorter
+        while (parent[territory] != root) {
+            final int up = parent[territory];
+            parent[territory] = root;
+            territory = up;
+        }
+        return root;
+    }
+
+    /**
+     * @param territory The board index of a Territory that will be a region by itself.
+     */
+    private void makeSingleton(int territory) {
+        parent[territory] = territory;
+        size[territory] = 1;
+        next[territory] = territory;
+    }
+
+    /**
+     * @param owner An owner index.
+     * @param regionSize The size of a region of owner.
+     * @param change 1 if the region was formed, -1 if it is gone.
+     */
+    private void countRegion(int owner, int regionSize, int change) {
+        regionsOfSize[owner][regionSize] += change;
+        if (change > 0 && regionSize > largest[owner]) {
+            largest[owner] = regionSize;
+        }
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory that is not colorless.
+     * @return The number of Territories connected to it that share its owner, including itself.
+     */
+    public int regionSize(int territory) {
+        return size[find(territory)];
+    }
+
+    /**
+     *
+     * @param player A Player of the board's Configuration.
+     * @return The number of Territories in player's largest region, or 0 if player owns no Territories.
+     */
+    public int largestRegion(Player player) {
+        return largest[ledger.indexOf(player)];
+    }
+}
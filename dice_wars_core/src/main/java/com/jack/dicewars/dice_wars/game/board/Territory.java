@@ -3,8 +3,6 @@ package com.jack.dicewars.dice_wars.game.board;
 import com.jack.dicewars.dice_wars.TerritoryColor;
 import com.jack.dicewars.dice_wars.game.Player;
 
-import java.util.Random;
-
 /**
  *
  * A Territory is the smallest division that can be owned by a Player in DiceWars. Ownership can change rapidly; In
@@ -17,7 +15,6 @@ public class Territory {
 
     private Player owner;
     private int value;
-    private Random random;
 
     /**
      * Creates an isolated territory that keeps track of it's owner and dice value.
@@ -26,9 +23,8 @@ public class Territory {
      * @param value The initial amount of dice on this Territory.
      */
     public Territory(Player owner, int value) {
-        owner.claimOwnership(this);
+        this.owner = owner;
         this.setValue(value);
-        random = new Random();
     }
 
 
@@ -41,8 +37,8 @@ public class Territory {
     }
 
     /**
-     * Changes the ownership of this Territory. Does not register the territory with the Owner, use Player
-     * .claimOwnership for that.
+     * Changes the ownership of this Territory. Does not update the board's {@link OwnershipLedger}, use
+     * {@link TerritoryBorder#transferOwnership(Player)} for that.
      * @param owner The new owner of this territory.
      */
     public void setOwner(Player owner) {
@@ -72,16 +68,4 @@ public class Territory {
     public void setValue(int value) {
         this.value = value;
     }
-
-    /**
-     *
-     * @return A number that is the sum of {@link Territory#value} dice rolls of {@link Territory#DICE_FACES}.
-     */
-    public int roll() {
-        int rollSum = 0;
-        for (int diceLeft = value; diceLeft > 0; diceLeft--) {
-            rollSum += random.nextInt(DICE_FACES) + 1;
-        }
-        return rollSum;
-    }
 }
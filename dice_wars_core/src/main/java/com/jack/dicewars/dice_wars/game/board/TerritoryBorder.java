@@ -0,0 +1,165 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ *
+ * A Territory Border is a model fabrication that encapsulates internal {@link Territory} data when it is not needed.
+ * A TerritoryBorders responsibilities revolve around how many other Territories (which actually means
+ * TerritoryBorders, it is connected to.
+ *
+ * Where the owner, value and neighbors are kept is up to the subclass: {@link GraphBorder} keeps its own Territory and
+ * neighbor references, while the borders of a {@link CompactBoard} read them from the board's arrays.
+ */
+public abstract class TerritoryBorder implements Selectable {
+
+    /**
+     * The exact number of Territories the internal Territory touches.
+     */
+    public static final int EDGE_MAX_COUNT = 4;
+    public static final int MID_EDGE_COUNT = 4;
+    public static final int SIDE_EDGE_COUNT = 3;
+    public static final int CORNER_EDGE_COUNT = 2;
+
+    /**
+     * The board this TerritoryBorder is on, notified when the internal Territory's owner or value changes.
+     */
+    private AbstractBoard board;
+    /**
+     * The position of this TerritoryBorder in its board's well ordered list.
+     */
+    private int index;
+
+    private boolean selected;
+    private boolean selectable;
+
+    /**
+     * Creates a TerritoryBorder that is neither selected nor selectable, and not yet on a board.
+     */
+    protected TerritoryBorder() {
+        selected = false;
+        selectable = false;
+    }
+
+    @Override
+    public List<Filterable> adjacent() {
+        final List<Filterable> adjacent = new LinkedList<>();
+        for (int i = 0; i < numberOfNeighbors(); i++) {
+            adjacent.add(neighborAt(i));
+        }
+        return adjacent;
+    }
+
+    @Override
+    public abstract TerritoryColor color();
+
+    @Override
+    public abstract int value();
+
+    /**
+     *
+     * @return The number of reachable TerritoryBorders there are from this TerritoryBorder.
+     */
+    @Override
+    public abstract int numberOfNeighbors();
+
+    @Override
+    public abstract TerritoryBorder neighborAt(int i);
+
+    /**
+     *
+     * @param player The Player that now owns the Territory inside of this Border
+     */
+    public abstract void setOwnerOfInternal(Player player);
+
+    /**
+     * Takes the internal Territory away from its current owner and gives it to player, such as after a won battle.
+     * The previous owner may be CLOSED by the board's {@link OwnershipLedger} if this was its last Territory.
+     *
+     * @param player The Player that captured the Territory inside of this Border
+     */
+    public void transferOwnership(Player player) {
+        setOwnerOfInternal(player);
+    }
+
+    /**
+     *
+     * @return The Player who owns the Territory inside of this Border.
+     */
+    public abstract Player owner();
+
+    /**
+     *
+     * @param value The new amount of dice on the internal Territory.
+     */
+    public abstract void setValue(int value);
+
+    /**
+     *
+     * @return The sum of rolling every die on the internal Territory, using the board's shared DiceRoller.
+     */
+    public int roll() {
+        return board.getDiceRoller().roll(value());
+    }
+
+    /**
+     *
+     * @return The position of this TerritoryBorder in {@link AbstractBoard#getBoard()}.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Places this TerritoryBorder on a board so that the board's ledger and indexes follow changes to it.
+     *
+     * @param board The board this TerritoryBorder is on.
+     * @param index The position of this TerritoryBorder in its board's well ordered list.
+     */
+    void attach(AbstractBoard board, int index) {
+        this.board = board;
+        this.index = index;
+    }
+
+    /**
+     *
+     * @return The board this TerritoryBorder is on, or null if it hasn't been placed on one yet.
+     */
+    AbstractBoard getAttachedBoard() {
+        return board;
+    }
+
+    /**
+     * Increments the internal Territory's value by one. Useful for ReinforcePhases.
+     */
+    public void incrementValue() {
+        setValue(value() + 1);
+    }
+
+    @Override
+    public boolean isSelected() {
+        return selected;
+    }
+
+    @Override
+    public void setSelected(boolean state) {
+        this.selected = state;
+    }
+
+    @Override
+    public boolean isSelectable() {
+        return selectable;
+    }
+
+    @Override
+    public void setSelectable(boolean state) {
+        this.selectable = state;
+    }
+
+}
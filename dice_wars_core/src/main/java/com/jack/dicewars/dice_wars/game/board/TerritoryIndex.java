@@ -0,0 +1,79 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+/**
+ * A set of Territory indexes that supports adding, removing and membership checks in constant time, and iterating
+ * its members in time proportional to its size rather than to the size of the board. Boards keep one TerritoryIndex
+ * per color and per dice value so that filters can start from a small part of the board.
+ */
+public final class TerritoryIndex {
+
+    /**
+     * The members of this set, packed into the first {@link #size} entries.
+     */
+    private final int[] members;
+    /**
+     * Where each Territory is in {@link #members}, or -1 if it is not a member.
+     */
+    private final int[] position;
+    private int size;
+
+    /**
+     * Creates an empty TerritoryIndex.
+     * @param capacity The number of Territories on the board.
+     */
+    TerritoryIndex(int capacity) {
+        members = new int[capacity];
+        position = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            position[i] = -1;
+        }
+        size = 0;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory that is not yet a member.
+     */
+    void add(int territory) {
+        position[territory] = size;
+        members[size++] = territory;
+    }
+
+    /**
+     * Removes a member by moving the last member into its place.
+     * @param territory The board index of a Territory that is a member.
+     */
+    void remove(int territory) {
+        final int at = position[territory];
+        final int last = members[--size];
+        members[at] = last;
+        position[last] = at;
+        position[territory] = -1;
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @return Whether the Territory is a member of this set.
+     */
+    public boolean contains(int territory) {
+        return position[territory] >= 0;
+    }
+
+    /**
+     *
+     * @return The number of members.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Members are in no particular order, and the order changes when members are removed.
+     * @param i A number from 0 to {@link #size()} - 1.
+     * @return The board index of the i-th member.
+     */
+    public int get(int i) {
+        return members[i];
+    }
+}
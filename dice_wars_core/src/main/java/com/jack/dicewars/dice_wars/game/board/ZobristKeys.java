@@ -0,0 +1,76 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.dice.SplitMix64;
+
+/**
+ * Random keys for Zobrist hashing positions of a board. A position's hash is the XOR of the key of every Territory's
+ * (owner, dice value) pair, so a change to one Territory updates the hash with two XORs: one to take out its old key
+ * and one to put in its new key. Search positions also XOR in the key of the owner whose turn it is.
+ *
+ * Owners are ledger owner indexes, see {@link OwnershipLedger#indexOf(com.jack.dicewars.dice_wars.game.Player)}. The
+ * keys come from a fixed seed so that they never use the Game's randomness.
+ */
+public final class ZobristKeys {
+
+    /**
+     * Seeds every set of keys, so equal boards always hash equally.
+     */
+    private static final long SEED = 0x2545F4914F6CDD1DL;
+
+    private final int owners;
+    private final int values;
+    /**
+     * The key of Territory t owned by owner index o with v dice is keys[(t * owners + o) * values + v].
+     */
+    private final long[] keys;
+    private final long[] turnKeys;
+    /**
+     * Mixes the keys of dice values past the table, which only happen with Territories over their Player's max value.
+     */
+    private final long overflowSeed;
+
+    /**
+     * Creates the keys of every Territory, owner and value up to maxValue.
+     *
+     * @param territories The number of Territories on the board.
+     * @param owners The number of owner indexes, including the colorless owner.
+     * @param maxValue The most dice a Territory usually has.
+     */
+    ZobristKeys(int territories, int owners, int maxValue) {
+        this.owners = owners;
+        values = maxValue + 1;
+        final SplitMix64 random = new SplitMix64(SEED);
+        keys = new long[territories * owners * values];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+        turnKeys = new long[owners];
+        for (int i = 0; i < turnKeys.length; i++) {
+            turnKeys[i] = random.nextLong();
+        }
+        overflowSeed = random.nextLong();
+    }
+
+    /**
+     *
+     * @param territory The board index of a Territory.
+     * @param owner The owner index of the Territory's owner.
+     * @param value The dice on the Territory.
+     * @return The key of the Territory having that owner and value.
+     */
+    public long key(int territory, int owner, int value) {
+        if (value < values) {
+            return keys[(territory * owners + owner) * values + value];
+        }
+        return SplitMix64.mix64(overflowSeed ^ ((((long) territory * owners + owner) << 32) | value));
+    }
+
+    /**
+     *
+     * @param owner The owner index whose turn it is.
+     * @return The key XORed into a search position's hash for the owner whose turn it is.
+     */
+    public long turnKey(int owner) {
+        return turnKeys[owner];
+    }
+}
@@ -1,9 +1,12 @@
 package com.jack.dicewars.dice_wars.game.board.filter;
 
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+import com.jack.dicewars.dice_wars.game.board.TerritoryBorder;
+
 /**
  * Implementation of Filter that accepts all Filterables near a target Filterable.
  */
-public class AdjacentFilter implements Filter {
+public class AdjacentFilter implements BitboardFilter {
 
     /**
      * This Filterable is reachable by all accepted Filterables.
@@ -20,17 +23,28 @@ public class AdjacentFilter implements Filter {
     }
 
     /**
-     * Uses Filterable.adjacent to match a target to another Filterable.
+     * Uses Filterable.neighborAt to match a target to another Filterable.
      * @param filterable The filterable that may be adjacent to target
      * @return True if any of the target's adjacent Filterables are the passed filterable, false otherwise.
      */
     @Override
     public boolean accepts(Filterable filterable) {
-        for (Filterable other : target.adjacent()) {
-            if (other == filterable) {
+        final int neighborCount = target.numberOfNeighbors();
+        for (int i = 0; i < neighborCount; i++) {
+            if (target.neighborAt(i) == filterable) {
                 return true;
             }
         }
         return false;
     }
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        return bitboard.adjacent(((TerritoryBorder) target).getIndex());
+    }
+
+    @Override
+    public int cost() {
+        return COST_NEIGHBORS;
+    }
 }
@@ -0,0 +1,17 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+
+/**
+ * A Filter that can also be evaluated for a whole board at once. Boards that keep a {@link Bitboard} use this instead
+ * of calling {@link Filter#accepts(Filterable)} on every Territory.
+ */
+public interface BitboardFilter extends Filter {
+
+    /**
+     * Checks every Territory of the bitboard at once.
+     * @param bitboard The board to check.
+     * @return A mask of the Territories that {@link #accepts(Filterable)} would return true for.
+     */
+    long accepts(Bitboard bitboard);
+}
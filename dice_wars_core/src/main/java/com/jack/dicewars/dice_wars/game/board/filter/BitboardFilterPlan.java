@@ -0,0 +1,28 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+
+import java.util.HashSet;
+
+/**
+ * A FilterPlan made only of BitboardFilters, so the whole plan can also be evaluated as one mask.
+ */
+public class BitboardFilterPlan extends FilterPlan implements BitboardFilter {
+
+    /**
+     *
+     * @param filters The BitboardFilters to fuse.
+     */
+    BitboardFilterPlan(HashSet<Filter> filters) {
+        super(filters);
+    }
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        long accepted = bitboard.all();
+        for (int i = 0; i < ordered.length && accepted != 0; i++) {
+            accepted &= ((BitboardFilter) ordered[i]).accepts(bitboard);
+        }
+        return accepted;
+    }
+}
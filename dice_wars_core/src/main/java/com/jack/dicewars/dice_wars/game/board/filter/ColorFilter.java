@@ -1,12 +1,18 @@
 package com.jack.dicewars.dice_wars.game.board.filter;
 
 import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
 import com.jack.dicewars.dice_wars.game.board.TerritoryBorder;
+import com.jack.dicewars.dice_wars.game.board.TerritoryIndex;
+
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Implementation of Filter that accepts Filterables based on their color's relationship to a target Filterable's color.
  */
-public class ColorFilter implements Filter {
+public class ColorFilter implements BitboardFilter, IndexedFilter {
 
     /**
      * This Color will be checked against accepted Colors.
@@ -40,4 +46,25 @@ public class ColorFilter implements Filter {
     public boolean accepts(Filterable filterable) {
         return (((TerritoryBorder) filterable).color() == target) == match;
     }
-}
\ No newline at end of file
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        final long owned = bitboard.owned(target);
+        return match ? owned : bitboard.all() & ~owned;
+    }
+
+    /**
+     *
+     * @param board The board whose indexes to look up.
+     * @return The index of target's Territories if matching, otherwise null since the complement is most of the board.
+     */
+    @Override
+    public List<TerritoryIndex> candidates(AbstractBoard board) {
+        return match ? Collections.singletonList(board.territoriesOf(target)) : null;
+    }
+
+    @Override
+    public int cost() {
+        return COST_PROPERTY;
+    }
+}
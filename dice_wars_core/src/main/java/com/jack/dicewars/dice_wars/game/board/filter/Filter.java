@@ -5,36 +5,26 @@ package com.jack.dicewars.dice_wars.game.board.filter;
  * define a Filterable.
  */
 public interface Filter {
+
+    /**
+     * Cost of a Filter that only reads properties of the Filterable itself.
+     */
+    int COST_PROPERTY = 0;
+    /**
+     * Cost of a Filter that has to look at the Filterable's neighbors.
+     */
+    int COST_NEIGHBORS = 1;
+
     /**
      * Checks the passed Filterable for properties based on the implementation.
      * @param filterable The Filterable to check properties of.
      * @return True if the passed Filterable passes the property checks, false otherwise.
      */
     boolean accepts(Filterable filterable);
-}
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
-
 
+    /**
+     * Used to check cheap Filters before expensive ones, see {@link FilterPlan}.
+     * @return How expensive {@link #accepts(Filterable)} is, {@link #COST_PROPERTY} or {@link #COST_NEIGHBORS}.
+     */
+    int cost();
+}
@@ -0,0 +1,129 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.TerritoryIndex;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A set of Filters compiled into a single Filter. The Filters are checked in order of {@link Filter#cost()}, so that
+ * cheap checks on a Filterable's own properties reject most Filterables before its neighbors are looked at. Phases
+ * compile a plan once per state and reuse it for every Territory, instead of building new Filters for every query.
+ * A plan can be narrowed down by the smallest board index any of its Filters can name.
+ */
+public class FilterPlan implements IndexedFilter {
+
+    /**
+     * Orders Filters from cheapest to most expensive.
+     */
+    private static final Comparator<Filter> BY_COST = new Comparator<Filter>() {
+        @Override
+        public int compare(Filter lhs, Filter rhs) {
+            return lhs.cost() - rhs.cost();
+        }
+    };
+
+    /**
+     * The Filters this plan was compiled from, as they were passed.
+     */
+    private final Set<Filter> filters;
+
+    /**
+     * The same Filters, cheapest first.
+     */
+    protected final Filter[] ordered;
+
+    /**
+     * Use {@link #compile(HashSet)} so that the most capable plan is created.
+     *
+     * @param filters The Filters to fuse.
+     */
+    protected FilterPlan(HashSet<Filter> filters) {
+        this.filters = Collections.unmodifiableSet(filters);
+        ordered = filters.toArray(new Filter[filters.size()]);
+        Arrays.sort(ordered, BY_COST);
+    }
+
+    /**
+     * Fuses filters into a single plan. If every Filter can be evaluated on a Bitboard, so can the plan.
+     *
+     * @param filters The criteria a Filterable has to meet to be accepted by the plan.
+     * @return A plan that accepts exactly the Filterables accepted by all of filters.
+     */
+    public static FilterPlan compile(HashSet<Filter> filters) {
+        for (Filter filter : filters) {
+            if (!(filter instanceof BitboardFilter)) {
+                return new FilterPlan(filters);
+            }
+        }
+        return new BitboardFilterPlan(filters);
+    }
+
+    /**
+     *
+     * @param filterable The Filterable to check properties of.
+     * @return True if filterable passes every Filter of this plan.
+     */
+    @Override
+    public boolean accepts(Filterable filterable) {
+        for (Filter filter : ordered) {
+            if (!filter.accepts(filterable)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     *
+     * @return The cost of the most expensive Filter in this plan.
+     */
+    @Override
+    public int cost() {
+        return ordered.length == 0 ? COST_PROPERTY : ordered[ordered.length - 1].cost();
+    }
+
+    /**
+     * Every Filterable the plan accepts is accepted by each of its Filters, so the candidates of any one Filter are
+     * candidates of the whole plan. The Filter with the fewest candidates is picked.
+     *
+     * @param board The board whose indexes to look up.
+     * @return The smallest candidates of any IndexedFilter in this plan, or null if none of them can be narrowed.
+     */
+    @Override
+    public List<TerritoryIndex> candidates(AbstractBoard board) {
+        List<TerritoryIndex> smallest = null;
+        int smallestSize = Integer.MAX_VALUE;
+        for (Filter filter : ordered) {
+            if (!(filter instanceof IndexedFilter)) {
+                continue;
+            }
+            final List<TerritoryIndex> candidates = ((IndexedFilter) filter).candidates(board);
+            if (candidates == null) {
+                continue;
+            }
+            int size = 0;
+            for (TerritoryIndex index : candidates) {
+                size += index.size();
+            }
+            if (size < smallestSize) {
+                smallest = candidates;
+                smallestSize = size;
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     *
+     * @return The unmodifiable set of Filters this plan was compiled from.
+     */
+    public Set<Filter> filters() {
+        return filters;
+    }
+}
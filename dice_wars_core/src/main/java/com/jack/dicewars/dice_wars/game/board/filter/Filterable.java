@@ -12,11 +12,27 @@ import java.util.List;
 public interface Filterable {
 
     /**
+     * Allocates a new list on every call. Code that runs for every Territory should use {@link #numberOfNeighbors()}
+     * and {@link #neighborAt(int)} instead.
      *
      * @return A list of all the Filterables that this Filterable has a reference to.
      */
     List<Filterable> adjacent();
 
+    /**
+     *
+     * @return The number of Filterables that this Filterable has a reference to.
+     */
+    int numberOfNeighbors();
+
+    /**
+     * Gives access to the same Filterables as {@link #adjacent()}, in the same order, without allocating.
+     *
+     * @param i A number from 0 to {@link #numberOfNeighbors()} - 1.
+     * @return The i-th Filterable that this Filterable has a reference to.
+     */
+    Filterable neighborAt(int i);
+
     //TODO change this to a FilterColor
     /**
      *
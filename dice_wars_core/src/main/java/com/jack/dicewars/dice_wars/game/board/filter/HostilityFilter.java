@@ -0,0 +1,31 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+
+/**
+ * Only accepts Filterables that have an adjacent Filterable with a different color than its own.
+ */
+public class HostilityFilter implements BitboardFilter {
+
+    @Override
+    public boolean accepts(Filterable filterable) {
+        final int neighborCount = filterable.numberOfNeighbors();
+        for (int i = 0; i < neighborCount; i++) {
+            if (filterable.neighborAt(i).color() != filterable.color()) {
+                // Found a hostile neighbor
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        return bitboard.hostile();
+    }
+
+    @Override
+    public int cost() {
+        return COST_NEIGHBORS;
+    }
+}
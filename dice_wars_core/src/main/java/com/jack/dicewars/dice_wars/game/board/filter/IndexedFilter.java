@@ -0,0 +1,21 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.TerritoryIndex;
+
+import java.util.List;
+
+/**
+ * A Filter that can name the secondary indexes of a board that hold every Filterable it accepts, so a board can
+ * search those indexes instead of every Territory.
+ */
+public interface IndexedFilter extends Filter {
+
+    /**
+     *
+     * @param board The board whose indexes to look up.
+     * @return Indexes whose union contains every Territory this Filter accepts, or null if the Filter can't be
+     * narrowed down by the board's indexes.
+     */
+    List<TerritoryIndex> candidates(AbstractBoard board);
+}
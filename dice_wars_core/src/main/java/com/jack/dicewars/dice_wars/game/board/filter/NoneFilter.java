@@ -0,0 +1,34 @@
+package com.jack.dicewars.dice_wars.game.board.filter;
+
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+import com.jack.dicewars.dice_wars.game.board.TerritoryIndex;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Implementation of Filter that accepts no Filterables, for Phases that have nothing left to select.
+ */
+public class NoneFilter implements BitboardFilter, IndexedFilter {
+
+    @Override
+    public boolean accepts(Filterable filterable) {
+        return false;
+    }
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        return 0;
+    }
+
+    @Override
+    public List<TerritoryIndex> candidates(AbstractBoard board) {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public int cost() {
+        return COST_PROPERTY;
+    }
+}
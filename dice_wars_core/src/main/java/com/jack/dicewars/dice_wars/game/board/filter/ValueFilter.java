@@ -1,9 +1,16 @@
 package com.jack.dicewars.dice_wars.game.board.filter;
 
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+import com.jack.dicewars.dice_wars.game.board.Bitboard;
+import com.jack.dicewars.dice_wars.game.board.TerritoryIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Implementation of Filter that accepts Filterables based on their value compared to target values.
  */
-public class ValueFilter implements Filter {
+public class ValueFilter implements BitboardFilter, IndexedFilter {
 
     /**
      * Value to be checked relative to accepted values.
@@ -58,4 +65,50 @@ public class ValueFilter implements Filter {
             return target == otherValue;
         }
     }
+
+    @Override
+    public long accepts(Bitboard bitboard) {
+        if (useGreater) {
+            if (greater) {
+                return bitboard.valueGreater(target);
+            } else {
+                return bitboard.valueLess(target);
+            }
+        } else {
+            return bitboard.valueEqual(target);
+        }
+    }
+
+    /**
+     *
+     * @param board The board whose indexes to look up.
+     * @return The value indexes of every value this ValueFilter accepts.
+     */
+    @Override
+    public List<TerritoryIndex> candidates(AbstractBoard board) {
+        int from = target;
+        int to = target;
+        if (useGreater) {
+            if (greater) {
+                from = target + 1;
+                to = board.valueIndexCount() - 1;
+            } else {
+                from = 0;
+                to = target - 1;
+            }
+        }
+        from = Math.max(from, 0);
+        to = Math.min(to, board.valueIndexCount() - 1);
+
+        List<TerritoryIndex> candidates = new ArrayList<>();
+        for (int value = from; value <= to; value++) {
+            candidates.add(board.territoriesWithValue(value));
+        }
+        return candidates;
+    }
+
+    @Override
+    public int cost() {
+        return COST_PROPERTY;
+    }
 }
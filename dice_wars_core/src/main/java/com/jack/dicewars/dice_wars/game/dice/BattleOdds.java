@@ -0,0 +1,90 @@
+package com.jack.dicewars.dice_wars.game.dice;
+
+import com.jack.dicewars.dice_wars.game.board.Territory;
+
+/**
+ * The exact chance that an attack wins for every pair of dice counts, computed once from the distributions of dice
+ * sums. An attack wins when the attacker's sum is strictly greater than the defender's, so ties go to the defender.
+ * AIs can score every possible attack with a lookup instead of rolling or simulating.
+ */
+public final class BattleOdds {
+
+    /**
+     * win[a][d] is the chance that a dice beat d dice.
+     */
+    private final double[][] win;
+
+    /**
+     * Computes the odds of every battle between 0 and maxDice dice on each side.
+     *
+     * @param maxDice The most dice a Territory usually has, such as the largest
+     * {@link com.jack.dicewars.dice_wars.game.Player#getMaxValue()}.
+     */
+    public BattleOdds(int maxDice) {
+        win = new double[maxDice + 1][maxDice + 1];
+        final double[][] distribution = new double[maxDice + 1][];
+        final double[][] cumulative = new double[maxDice + 1][];
+        for (int dice = 0; dice <= maxDice; dice++) {
+            distribution[dice] = distribution(dice);
+            cumulative[dice] = cumulative(distribution[dice]);
+        }
+        for (int attack = 0; attack <= maxDice; attack++) {
+            for (int defend = 0; defend <= maxDice; defend++) {
+                win[attack][defend] = compute(distribution[attack], cumulative[defend]);
+            }
+        }
+    }
+
+    /**
+     *
+     * @param attackDice The dice on the attacking Territory.
+     * @param defendDice The dice on the defending Territory.
+     * @return The chance that the attacker rolls a higher sum than the defender.
+     */
+    public double attackerWins(int attackDice, int defendDice) {
+        if (attackDice < win.length && defendDice < win.length) {
+            return win[attackDice][defendDice];
+        }
+        // Bigger than the table, which only happens with Territories over their Player's max value
+        return compute(distribution(attackDice), cumulative(distribution(defendDice)));
+    }
+
+    /**
+     * @param dice How many dice are rolled.
+     * @return The chance of each sum, indexed by sum.
+     */
+    private static double[] distribution(int dice) {
+        final long[] counts = DiceRoller.sumCounts(dice);
+        final double total = Math.pow(Territory.DICE_FACES, dice);
+        final double[] chances = new double[counts.length];
+        for (int sum = 0; sum < counts.length; sum++) {
+            chances[sum] = counts[sum] / total;
+        }
+        return chances;
+    }
+
+    /**
+     * @param distribution The chance of each sum.
+     * @return The chance of rolling less than each sum, indexed by sum, with one extra entry for certainty.
+     */
+    private static double[] cumulative(double[] distribution) {
+        final double[] below = new double[distribution.length + 1];
+        for (int sum = 0; sum < distribution.length; sum++) {
+            below[sum + 1] = below[sum] + distribution[sum];
+        }
+        return below;
+    }
+
+    /**
+     * @param attack The chance of each attacking sum.
+     * @param defendBelow The chance of the defender rolling less than each sum.
+     * @return The chance that the attacking sum is greater than the defending sum.
+     */
+    private static double compute(double[] attack, double[] defendBelow) {
+        double chance = 0;
+        for (int sum = 0; sum < attack.length; sum++) {
+            chance += attack[sum] * defendBelow[Math.min(sum, defendBelow.length - 1)];
+        }
+        return chance;
+    }
+}
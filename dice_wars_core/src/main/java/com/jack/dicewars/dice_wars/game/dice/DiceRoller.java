@@ -0,0 +1,182 @@
+package com.jack.dicewars.dice_wars.game.dice;
+
+import com.jack.dicewars.dice_wars.game.board.Territory;
+
+import java.util.Random;
+
+/**
+ * Rolls any number of {@link Territory#DICE_FACES} sided dice and sums them in constant time. The exact distribution
+ * of the sum of n dice is precomputed for every n up to a maximum, and stored as an alias table so that one random
+ * number picks a sum no matter how many dice are rolled. Rolls of more dice than the maximum are made of several
+ * table lookups.
+ *
+ * A DiceRoller is shared by every Territory of a board. It is not thread safe; give each thread its own roller with
+ * {@link #withRandom(Random)}, which shares the tables.
+ */
+public final class DiceRoller {
+
+    /**
+     * For n dice, the chance of keeping each column of the alias table instead of taking its alias. Column j stands
+     * for a sum of n + j.
+     */
+    private final double[][] keep;
+    /**
+     * For n dice, the column that is taken instead of each column when it isn't kept.
+     */
+    private final int[][] alias;
+
+    private final Random random;
+
+    /**
+     * Precomputes the tables for up to maxDice dice.
+     *
+     * @param maxDice The most dice that will usually be rolled at once, such as the largest
+     * {@link com.jack.dicewars.dice_wars.game.Player#getMaxValue()}.
+     * @param random The source of randomness for every roll.
+     */
+    public DiceRoller(int maxDice, Random random) {
+        if (maxDice < 1) {
+            throw new IllegalArgumentException("A DiceRoller must be able to roll at least one die");
+        }
+        keep = new double[maxDice + 1][];
+        alias = new int[maxDice + 1][];
+        for (int dice = 0; dice <= maxDice; dice++) {
+            buildAliasTable(dice);
+        }
+        this.random = random;
+    }
+
+    /**
+     * Shares the tables of another DiceRoller.
+     *
+     * @param tables The DiceRoller whose tables to share.
+     * @param random The source of randomness for every roll.
+     */
+    private DiceRoller(DiceRoller tables, Random random) {
+        keep = tables.keep;
+        alias = tables.alias;
+        this.random = random;
+    }
+
+    /**
+     *
+     * @param random The source of randomness for the new roller, such as a {@link SplitMix64#split()}.
+     * @return A DiceRoller with the same tables as this one, that can be used by a different thread.
+     */
+    public DiceRoller withRandom(Random random) {
+        return new DiceRoller(this, random);
+    }
+
+    /**
+     *
+     * @return The most dice that can be rolled with a single table lookup.
+     */
+    public int maxDice() {
+        return keep.length - 1;
+    }
+
+    /**
+     * Counts how many of the {@link Territory#DICE_FACES}^dice equally likely rolls add up to each sum, by convolving
+     * the distribution of one die with itself.
+     *
+     * @param dice How many dice are rolled. Counts overflow past 24 six sided dice.
+     * @return The count for each sum from 0 to {@link Territory#DICE_FACES} * dice, indexed by sum.
+     */
+    public static long[] sumCounts(int dice) {
+        long[] counts = new long[Territory.DICE_FACES * dice + 1];
+        counts[0] = 1;
+        for (int rolled = 0; rolled < dice; rolled++) {
+            // Add one die to every sum reachable with the dice rolled so far, from the highest sum down
+            for (int sum = Territory.DICE_FACES * (rolled + 1); sum >= 0; sum--) {
+                long ways = 0;
+                for (int face = 1; face <= Territory.DICE_FACES && face <= sum; face++) {
+                    ways += counts[sum - face];
+                }
+                counts[sum] = ways;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Builds the alias table for the sum of dice with Vose's method.
+     *
+     * @param dice How many dice are rolled.
+     */
+    private void buildAliasTable(int dice) {
+        final long[] counts = sumCounts(dice);
+        // Only sums from dice to FACES * dice are possible
+        final int columns = (Territory.DICE_FACES - 1) * dice + 1;
+        double total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+
+        final double[] scaled = new double[columns];
+        final int[] small = new int[columns];
+        final int[] large = new int[columns];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int column = 0; column < columns; column++) {
+            scaled[column] = counts[dice + column] * columns / total;
+            if (scaled[column] < 1) {
+                small[smallCount++] = column;
+            } else {
+                large[largeCount++] = column;
+            }
+        }
+
+        keep[dice] = new double[columns];
+        alias[dice] = new int[columns];
+        // Fill each short column with the excess of a tall one
+        while (smallCount > 0 && largeCount > 0) {
+            final int shorter = small[--smallCount];
+            final int taller = large[--largeCount];
+            keep[dice][shorter] = scaled[shorter];
+            alias[dice][shorter] = taller;
+            scaled[taller] = scaled[taller] + scaled[shorter] - 1;
+            if (scaled[taller] < 1) {
+                small[smallCount++] = taller;
+            } else {
+                large[largeCount++] = taller;
+            }
+        }
+        // Whatever is left is full, up to rounding error
+        while (largeCount > 0) {
+            keep[dice][large[--largeCount]] = 1;
+        }
+        while (smallCount > 0) {
+            keep[dice][small[--smallCount]] = 1;
+        }
+    }
+
+    /**
+     *
+     * @param dice How many dice to roll. Non-positive amounts roll nothing.
+     * @return The sum of rolling that many dice.
+     */
+    public int roll(int dice) {
+        int sum = 0;
+        final int maxDice = maxDice();
+        while (dice > maxDice) {
+            sum += rollFromTable(maxDice);
+            dice -= maxDice;
+        }
+        if (dice > 0) {
+            sum += rollFromTable(dice);
+        }
+        return sum;
+    }
+
+    /**
+     * @param dice How many dice to roll, from 1 to {@link #maxDice()}.
+     * @return The sum of rolling that many dice, from a single random number.
+     */
+    private int rollFromTable(int dice) {
+        final double[] keepColumn = keep[dice];
+        final double u = random.nextDouble() * keepColumn.length;
+        final int column = (int) u;
+        final int picked = u - column < keepColumn[column] ? column : alias[dice][column];
+        return dice + picked;
+    }
+}
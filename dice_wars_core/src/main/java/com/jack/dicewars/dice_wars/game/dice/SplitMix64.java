@@ -0,0 +1,91 @@
+package com.jack.dicewars.dice_wars.game.dice;
+
+import java.util.Random;
+
+/**
+ * A fast, splittable pseudo random number generator. Each number is one addition and a few multiply-xorshift steps
+ * on a 64 bit counter, with no locking, so it is much cheaper than {@link Random} while still being usable anywhere a
+ * Random is expected. {@link #split()} creates an independent generator for another thread or simulation.
+ *
+ * This is the SplitMix64 algorithm of java.util.SplittableRandom, which is not available on every Android version
+ * this app supports.
+ */
+public final class SplitMix64 extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The odd constant added to the state for every number, 2^64 divided by the golden ratio.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    /**
+     * Scales the top 53 bits of a long into [0, 1).
+     */
+    private static final double DOUBLE_UNIT = 1.0 / (1L << 53);
+
+    private long state;
+
+    /**
+     * Creates a generator whose sequence is decided entirely by seed.
+     * @param seed Any value. Generators with the same seed produce the same numbers.
+     */
+    public SplitMix64(long seed) {
+        state = seed;
+    }
+
+    /**
+     * Creates a generator with a seed that is different every time.
+     */
+    public SplitMix64() {
+        this(mix64(System.nanoTime()) ^ mix64(System.currentTimeMillis() + GOLDEN_GAMMA));
+    }
+
+    /**
+     *
+     * @return The next 64 pseudo random bits.
+     */
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * All of the other methods of Random are built on this one.
+     * @param bits The number of random bits wanted, 1 to 32.
+     * @return An int whose lowest bits are random.
+     */
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (Long.SIZE - bits));
+    }
+
+    /**
+     *
+     * @return A pseudo random double in [0, 1), from a single call to {@link #nextLong()}.
+     */
+    @Override
+    public double nextDouble() {
+        return (nextLong() >>> (Long.SIZE - 53)) * DOUBLE_UNIT;
+    }
+
+    /**
+     * Creates a new generator seeded from this one. The two sequences don't overlap in practice, so the new generator
+     * can be handed to another thread.
+     * @return An independent generator.
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong());
+    }
+
+    /**
+     * The finalizer of MurmurHash3 with the constants of SplitMix64. Also useful as a hash of a long.
+     * @param z Any value.
+     * @return z with its bits thoroughly mixed.
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
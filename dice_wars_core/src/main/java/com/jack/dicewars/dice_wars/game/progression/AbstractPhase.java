@@ -1,8 +1,12 @@
 package com.jack.dicewars.dice_wars.game.progression;
 
 import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
 import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -15,6 +19,11 @@ public abstract class AbstractPhase implements Phase {
 
     protected final List<Selectable> selected = new LinkedList<>();
 
+    /**
+     * Territories that the most recent {@link #consume()} changed the owner or value of.
+     */
+    protected final List<Selectable> changed = new ArrayList<>();
+
     protected boolean pendingAction;
     protected int territoryLimit;
 
@@ -26,6 +35,7 @@ public abstract class AbstractPhase implements Phase {
         selected.add(territory);
         // Greedily process Territories as soon as enough are selected
         if (selected.size() == territoryLimit) {
+            changed.clear();
             consume();
         }
 
@@ -46,8 +56,24 @@ public abstract class AbstractPhase implements Phase {
         }
     }
 
+    @Override
+    public HashSet<Filter> filters() {
+        return new HashSet<>(plan().filters());
+    }
+
+    @Override
+    public List<Filterable> candidates() {
+        return null;
+    }
+
+    @Override
+    public List<Selectable> lastChanged() {
+        return changed;
+    }
+
     /**
      * Uses territories that have pushed, usually by selection, in such a way that is defined by the implementation.
+     * Every Territory whose owner or value changes must be added to {@link #changed}.
      * TODO add a class filter so that Selectables can be verified as TerritoryBorders during attack/reinforce phase
      */
     protected abstract void consume();
@@ -0,0 +1,210 @@
+package com.jack.dicewars.dice_wars.game.progression;
+
+import com.jack.dicewars.dice_wars.Debug;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import com.jack.dicewars.dice_wars.game.board.TerritoryBorder;
+import com.jack.dicewars.dice_wars.game.board.filter.AdjacentFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.ColorFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.FilterPlan;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
+import com.jack.dicewars.dice_wars.game.board.filter.HostilityFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.board.filter.ValueFilter;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * A Phase that takes a defending territory and defending territory, uses Territories' properties to change the
+ * ownership of those Territories.
+ *
+ * Attacks are made one per pair of selections, or many in a row with {@link #attackChain(List, int[], boolean)}.
+ */
+public class AttackPhase extends AbstractPhase {
+
+    /**
+     * TODO move this field.
+     */
+    private static final int RESET_VALUE = 1;
+    /**
+     * The value a Territory needs more than to attack.
+     */
+    private static final int MIN_ATTACK_VALUE = 1;
+
+    private static final Logger BATTLE_LOG = Logger.getLogger(Debug.battle.s);
+
+    /**
+     * Compiled filters for selecting the attacking Territory. They never change during this Phase.
+     */
+    private FilterPlan attackerPlan;
+    /**
+     * Compiled filters for selecting the defending Territory, valid while {@link #defenderPlanTarget} is selected.
+     */
+    private FilterPlan defenderPlan;
+    /**
+     * The attacking Territory that {@link #defenderPlan} was compiled for.
+     */
+    private Selectable defenderPlanTarget;
+
+    /**
+     * Creates an Attack Phase controlled by player that will initiate an attack after selecting and attacking and
+     * defending territory until it is ended.
+     * @param p The player controlling the attacks
+     */
+    AttackPhase(Player p) {
+        player = p;
+        pendingAction = false;
+        territoryLimit = 2;
+    }
+
+    @Override
+    public String toString() {
+        return "Attack Phase";
+    }
+
+    @Override
+    public FilterPlan plan() {
+        if (selected.size() == 0) {
+            if (attackerPlan == null) {
+                HashSet<Filter> filters = new HashSet<>();
+                // Pick anything that is your own color
+                filters.add(new ColorFilter(player.getTerritoryColor(), true));
+                // Pick anything that has more than one dice on it.
+                filters.add(new ValueFilter(1, true));
+                // Pick anything that can attack something
+                filters.add(new HostilityFilter());
+                attackerPlan = FilterPlan.compile(filters);
+            }
+            return attackerPlan;
+        } else if (selected.size() == 1) {
+            final Selectable attacking = selected.get(0);
+            if (defenderPlanTarget != attacking) {
+                HashSet<Filter> filters = new HashSet<>();
+                // Attack anything that is not your own color
+                filters.add(new ColorFilter(player.getTerritoryColor(), false));
+                // Make sure the second territory is reachable from the first.
+                filters.add(new AdjacentFilter(attacking));
+                defenderPlan = FilterPlan.compile(filters);
+                defenderPlanTarget = attacking;
+            }
+            return defenderPlan;
+        } else {
+            throw new IllegalStateException("Attack phase has too many territories selected.");
+        }
+    }
+
+    @Override
+    public List<Filterable> candidates() {
+        if (selected.size() == 1) {
+            // Only the neighbors of the attacking Territory can be attacked
+            return selected.get(0).adjacent();
+        }
+        return null;
+    }
+
+    @Override
+    protected void consume() {
+        // The first Territory selected is what the Player is attacking, the next is where the attack is from
+        final TerritoryBorder attacking = ((TerritoryBorder) selected.remove(0));
+        attacking.setSelected(false);
+        final TerritoryBorder defending = ((TerritoryBorder) selected.remove(0));
+        defending.setSelected(false);
+        battle(attacking, defending);
+    }
+
+    /**
+     * Makes a sequence of attacks, such as A to B and then B to C, with one consolidated set of changes at the end.
+     * Whether an attack can be made depends on the ones before it, so each is checked just before it is made and the
+     * chain ends at the first one that can't be: its attacker isn't the player's or has too few dice, or its defender
+     * is already the player's.
+     *
+     * @param territories The Territories of the board, indexed by board index.
+     * @param attacks The attacks to make in order, each encoded by {@link MoveGenerator#encode(int, int)}.
+     * @param stopOnLoss Whether to end the chain after the first lost attack.
+     * @return The number of attacks made. {@link #lastChanged()} holds every Territory they changed, once each.
+     * @throws IllegalArgumentException If an attack names a Territory that isn't on the board or a defender that
+     * doesn't border its attacker. Nothing is attacked in that case.
+     * @throws IllegalStateException If a Territory is selected and waiting to be consumed.
+     */
+    public int attackChain(List<TerritoryBorder> territories, int[] attacks, boolean stopOnLoss) {
+        if (pendingAction) {
+            throw new IllegalStateException("Cannot attack in a chain while a selection is pending");
+        }
+        for (int attack : attacks) {
+            final int from = MoveGenerator.from(attack);
+            final int to = MoveGenerator.to(attack);
+            if (from >= territories.size() || to >= territories.size() || !borders(territories.get(from), to)) {
+                throw new IllegalArgumentException("Territory " + from + " cannot attack Territory " + to);
+            }
+        }
+
+        changed.clear();
+        int made = 0;
+        for (int attack : attacks) {
+            final TerritoryBorder attacking = territories.get(MoveGenerator.from(attack));
+            final TerritoryBorder defending = territories.get(MoveGenerator.to(attack));
+            if (attacking.color() != player.getTerritoryColor() || attacking.value() <= MIN_ATTACK_VALUE
+                    || defending.color() == player.getTerritoryColor()) {
+                break;
+            }
+            final boolean won = battle(attacking, defending);
+            made++;
+            if (!won && stopOnLoss) {
+                break;
+            }
+        }
+        return made;
+    }
+
+    /**
+     * @param territory A Territory of the board.
+     * @param index The board index of another Territory.
+     * @return True if the other Territory is a neighbor of territory.
+     */
+    private static boolean borders(TerritoryBorder territory, int index) {
+        for (int n = 0; n < territory.numberOfNeighbors(); n++) {
+            if (territory.neighborAt(n).getIndex() == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Rolls one attack and applies its outcome, adding the Territories it changes to {@link #changed} unless they
+     * already are.
+     *
+     * @param attacking The attacking Territory.
+     * @param defending The defending Territory.
+     * @return True if the attacker won.
+     */
+    private boolean battle(TerritoryBorder attacking, TerritoryBorder defending) {
+        final boolean won;
+        // TODO implement this if statement in a Territory function
+        if (attacking.roll() > defending.roll()) {
+            BATTLE_LOG.fine("win");
+            // Attacker wins, takes territory. The attacker moves his dice to the losing territory, not necessarily the
+            // player's color.
+            defending.transferOwnership(attacking.owner());
+            // Set values of the newly owned Territories
+            defending.setValue(attacking.value() - RESET_VALUE);
+            attacking.setValue(RESET_VALUE);
+            if (!changed.contains(defending)) {
+                changed.add(defending);
+            }
+            won = true;
+        } else {
+            BATTLE_LOG.fine("lose");
+            // Defender wins, Attacker is knocked down to 1.
+            attacking.setValue(RESET_VALUE);
+            won = false;
+        }
+        if (!changed.contains(attacking)) {
+            changed.add(attacking);
+        }
+        return won;
+    }
+}
@@ -2,6 +2,7 @@ package com.jack.dicewars.dice_wars.game.progression;
 
 import com.jack.dicewars.dice_wars.game.Player;
 import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.FilterPlan;
 
 import java.util.HashSet;
 
@@ -24,8 +25,8 @@ public class EffectPhase extends AbstractPhase {
     }
 
     @Override
-    public HashSet<Filter> filters() {
-        return new HashSet<>();
+    public FilterPlan plan() {
+        return FilterPlan.compile(new HashSet<Filter>());
     }
 
     @Override
@@ -2,8 +2,11 @@ package com.jack.dicewars.dice_wars.game.progression;
 
 import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
 import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.FilterPlan;
+import com.jack.dicewars.dice_wars.game.board.filter.Filterable;
 
 import java.util.HashSet;
+import java.util.List;
 
 /**
  * A phase that knows about what is occurring during it, how to keep track of territories, and what kinds of
@@ -22,11 +25,30 @@ public interface Phase {
     /**
      * Returns a set of filters on data that can be queried from a Board and Territories. The possible criteria and the
      * form of their value is defined by {@link com.jack.dicewars.dice_wars.game.board.filter.Filter}
-     * TODO implement
-     * @return A set of criteria
+     * @return A new set of criteria
      */
     HashSet<Filter> filters();
 
+    /**
+     * The same criteria as {@link #filters()}, compiled into one Filter. The plan is cached for as long as the state
+     * of this phase doesn't change, so it is cheap to call for every query.
+     * @return The compiled criteria for the current state of this phase.
+     */
+    FilterPlan plan();
+
+    /**
+     * Narrows down where Territories that pass {@link #filters()} can be, so that they don't have to be searched for
+     * on the whole board.
+     * @return The only Territories that can pass the current filters, or null if any Territory on the board might.
+     */
+    List<Filterable> candidates();
+
+    /**
+     * @return The Territories whose owner or value changed the last time this phase consumed its selected
+     * Territories. Only these Territories and their neighbors can have changed selectivity since then.
+     */
+    List<Selectable> lastChanged();
+
     /**
      * Appends territories to the end of a list for well ordered consumption by Phase implementation.
      * @param territory Territory that will be consumed later
@@ -0,0 +1,157 @@
+package com.jack.dicewars.dice_wars.game.progression;
+
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.RegionTracker;
+import com.jack.dicewars.dice_wars.game.board.filter.Selectable;
+import com.jack.dicewars.dice_wars.game.board.TerritoryBorder;
+import com.jack.dicewars.dice_wars.game.board.filter.ColorFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.Filter;
+import com.jack.dicewars.dice_wars.game.board.filter.FilterPlan;
+import com.jack.dicewars.dice_wars.game.board.filter.NoneFilter;
+import com.jack.dicewars.dice_wars.game.board.filter.ValueFilter;
+
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * A Phase that is meant to add value to Territories incrementally. It can also calculate how much value should be
+ * allocated to the given Player on the current Phase: one die for each Territory in the Player's largest region of
+ * connected Territories.
+ *
+ * Dice are placed one per selection, or many at once with {@link #reinforce(List, int[])}.
+ */
+public class ReinforcePhase extends AbstractPhase {
+
+    /**
+     * Marks {@link #remaining} as not yet calculated.
+     */
+    private static final int UNCALCULATED = -1;
+
+    /**
+     * Compiled filters for selecting a Territory to reinforce. They don't change until the dice run out.
+     */
+    private FilterPlan plan;
+    /**
+     * Compiled filters that accept nothing, used once the dice have run out.
+     */
+    private FilterPlan exhaustedPlan;
+
+    /**
+     * The regions of the board, which decide how many dice the player gets.
+     */
+    private RegionTracker regions;
+    /**
+     * Dice left to place this Phase. Calculated the first time it is needed, since regions change during the Attack
+     * Phase before this one.
+     */
+    private int remaining;
+
+    /**
+     * Creates a Reinforcement phase controlled by the current player that will put 1 dice on each Territory selected
+     * until the dice allocated run out.
+     * @param player The player controlling the phase
+     * @param regions The regions of the board the phase is played on.
+     */
+    public ReinforcePhase(Player player, RegionTracker regions) {
+        territoryLimit = 1;
+        this.player = player;
+        this.regions = regions;
+        remaining = UNCALCULATED;
+    }
+
+    /**
+     *
+     * @return How many dice the player has left to place this Phase.
+     */
+    public int remaining() {
+        if (remaining == UNCALCULATED) {
+            remaining = regions.largestRegion(player);
+        }
+        return remaining;
+    }
+
+    @Override
+    public String toString() {
+        return "Reinforce Phase";
+    }
+
+    @Override
+    public FilterPlan plan() {
+        if (remaining() == 0) {
+            if (exhaustedPlan == null) {
+                HashSet<Filter> filters = new HashSet<>();
+                filters.add(new NoneFilter());
+                exhaustedPlan = FilterPlan.compile(filters);
+            }
+            return exhaustedPlan;
+        }
+        if (plan == null) {
+            HashSet<Filter> filters = new HashSet<>();
+            // Only reinforce your own Territories
+            filters.add(new ColorFilter(player.getTerritoryColor(), true));
+            // Cannot Reinforce Territories at max value
+            filters.add(new ValueFilter(player.getMaxValue(), false));
+            plan = FilterPlan.compile(filters);
+        }
+        return plan;
+    }
+
+    /**
+     * Places a whole allocation of dice in one go. The allocation is checked in full before any die is placed, so
+     * either all of it is placed or none of it is.
+     *
+     * @param territories The Territories of the board, indexed by board index.
+     * @param allocation How many dice to place on each Territory, indexed by board index.
+     * @return The total number of dice placed.
+     * @throws IllegalArgumentException If the allocation has the wrong length, places dice on a Territory the player
+     * doesn't own or past the player's max value, or places more dice than remain.
+     * @throws IllegalStateException If a Territory is selected and waiting to be consumed.
+     */
+    public int reinforce(List<TerritoryBorder> territories, int[] allocation) {
+        if (pendingAction) {
+            throw new IllegalStateException("Cannot reinforce in a batch while a selection is pending");
+        }
+        if (allocation.length != territories.size()) {
+            throw new IllegalArgumentException("Expected an allocation for " + territories.size() + " Territories, got "
+                    + allocation.length);
+        }
+        int total = 0;
+        for (int i = 0; i < allocation.length; i++) {
+            final int dice = allocation[i];
+            if (dice == 0) {
+                continue;
+            }
+            final TerritoryBorder territory = territories.get(i);
+            if (dice < 0 || territory.color() != player.getTerritoryColor()) {
+                throw new IllegalArgumentException("Cannot place " + dice + " dice on Territory " + i);
+            }
+            if (territory.value() + dice > player.getMaxValue()) {
+                throw new IllegalArgumentException("Territory " + i + " cannot hold " + dice + " more dice");
+            }
+            total += dice;
+        }
+        if (total > remaining()) {
+            throw new IllegalArgumentException("Cannot place " + total + " dice with " + remaining() + " remaining");
+        }
+
+        changed.clear();
+        for (int i = 0; i < allocation.length; i++) {
+            if (allocation[i] > 0) {
+                final TerritoryBorder territory = territories.get(i);
+                territory.setValue(territory.value() + allocation[i]);
+                changed.add(territory);
+            }
+        }
+        remaining -= total;
+        return total;
+    }
+
+    @Override
+    protected void consume() {
+        Selectable buffed = selected.remove(0);
+        buffed.setSelected(false);
+        ((TerritoryBorder) buffed).incrementValue();
+        changed.add(buffed);
+        remaining = remaining() - 1;
+    }
+}
@@ -1,7 +1,9 @@
 package com.jack.dicewars.dice_wars.game.progression;
 
 import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -11,19 +13,25 @@ public class Round {
 
     private List<Player> players;
     private int currentPlayerIndex;
+    /**
+     * The board the Turns of this Round are played on.
+     */
+    private AbstractBoard board;
 
     private Turn turn;
 
     /**
      * Makes a Round where Turns will be taken by all Players in players, in the order of the passed list.
      * @param players The Players that will be given Turns
+     * @param board The board the Turns are played on.
      */
-    public Round(List<Player> players) {
+    public Round(List<Player> players, AbstractBoard board) {
         this.players = players;
+        this.board = board;
         currentPlayerIndex = 0;
 
         Player currentPlayer = players.get(currentPlayerIndex);
-        turn = new Turn(currentPlayer);
+        turn = new Turn(currentPlayer, board);
     }
 
     /**
@@ -34,6 +42,14 @@ public class Round {
         return turn.currentPhase();
     }
 
+    /**
+     *
+     * @return Every Player given Turns in this Round, in Turn order, including Players that have lost.
+     */
+    public List<Player> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
     /**
      *
      * @return The Player who will be associated with an active Turn
@@ -63,7 +79,7 @@ public class Round {
             if (currentPlayerIndex < players.size()) {
                 // The Round has not ended
                 Player currentPlayer = players.get(currentPlayerIndex);
-                turn = new Turn(currentPlayer);
+                turn = new Turn(currentPlayer, board);
                 return true;
             } else {
                 // The Round has ended, notify the Game
@@ -1,6 +1,7 @@
 package com.jack.dicewars.dice_wars.game.progression;
 
 import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
 
 /**
  * A Turn is taken by one Player and made up of Phases. A Turn an only advances through as many phases as it is
@@ -16,12 +17,13 @@ public class Turn {
     /**
      * Starts a turn controlled by player that will go through an Attack, Reinforce, and Effect phase.
      * @param player The player controlling the turn.
+     * @param board The board the turn is played on.
      */
-    Turn(Player player) {
+    Turn(Player player, AbstractBoard board) {
         this.player = player;
 
         // TODO add Effect Phase back in
-        phases = new Phase[] {new AttackPhase(player), new ReinforcePhase(player)};
+        phases = new Phase[] {new AttackPhase(player), new ReinforcePhase(player, board.getRegions())};
         currentPhase = 0;
     }
 
@@ -0,0 +1,123 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import com.jack.dicewars.dice_wars.Debug;
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.TestGames;
+import com.jack.dicewars.dice_wars.game.board.MoveGenerator;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that every move made on a SearchState can be unmade, leaving the position and its hash exactly as they were.
+ */
+public class SearchStateTest {
+
+    private static final int GAMES = 6;
+    private static final int PHASES = 40;
+    /**
+     * How many moves are made from each position before they are all unmade.
+     */
+    private static final int MOVES = 60;
+
+    @Test
+    public void unmakeRestoresEveryPositionAndHash() {
+        for (long seed = 0; seed < GAMES; seed++) {
+            final Game game = TestGames.start(seed, Debug.compactGrid.f, seed % 2 == 0);
+            final Random random = new Random(seed);
+            makeAndUnmake(new SearchState(game), random);
+            TestGames.play(game, PHASES, new Runnable() {
+                @Override
+                public void run() {
+                    makeAndUnmake(new SearchState(game), random);
+                }
+            });
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void unmakeWithoutMovesFails() {
+        new SearchState(TestGames.start(0, Debug.compactGrid.f, false)).unmake();
+    }
+
+    /**
+     * Makes random moves, remembering the position before each, then unmakes them one by one and checks that each
+     * position comes back.
+     *
+     * @param state The position to start from.
+     * @param random Picks the moves.
+     */
+    private static void makeAndUnmake(SearchState state, Random random) {
+        final int[][] positions = new int[MOVES + 1][];
+        final long[] hashes = new long[MOVES + 1];
+        final int[] buffer = new int[state.maxAttacks()];
+        int made = 0;
+        positions[0] = snapshot(state);
+        hashes[0] = state.hash();
+        while (made < MOVES && !state.isOver()) {
+            makeRandomMove(state, random, buffer);
+            made++;
+            assertEquals(made, state.madeMoves());
+            positions[made] = snapshot(state);
+            hashes[made] = state.hash();
+        }
+        while (made > 0) {
+            state.unmake();
+            made--;
+            assertArrayEquals("position after unmaking down to move " + made, positions[made], snapshot(state));
+            assertEquals("hash after unmaking down to move " + made, hashes[made], state.hash());
+        }
+        assertEquals(0, state.madeMoves());
+    }
+
+    /**
+     * Makes an attack with either outcome, a reinforcement or a pass.
+     *
+     * @param state A position that is not over.
+     * @param random Picks the move.
+     * @param buffer Scratch space for the attacks of the position.
+     */
+    private static void makeRandomMove(SearchState state, Random random, int[] buffer) {
+        final int kind = random.nextInt(3);
+        if (kind == 0) {
+            final int count = state.attacks(buffer);
+            if (count > 0) {
+                final int attack = buffer[random.nextInt(count)];
+                state.makeAttack(MoveGenerator.from(attack), MoveGenerator.to(attack), random.nextBoolean());
+                return;
+            }
+        } else if (kind == 1) {
+            final int start = random.nextInt(state.territories());
+            for (int i = 0; i < state.territories(); i++) {
+                final int territory = (start + i) % state.territories();
+                if (state.owner(territory) == state.current()
+                        && state.value(territory) < state.maxValue(state.current())) {
+                    state.makeReinforcement(territory);
+                    return;
+                }
+            }
+        }
+        state.makePass();
+    }
+
+    /**
+     * @param state A position.
+     * @return The owner and value of every Territory, the Territory count of every owner, and the current owner.
+     */
+    private static int[] snapshot(SearchState state) {
+        final int territories = state.territories();
+        final int[] snapshot = new int[territories * 2 + state.owners() + 1];
+        for (int t = 0; t < territories; t++) {
+            snapshot[t] = state.owner(t);
+            snapshot[territories + t] = state.value(t);
+        }
+        for (int who = 0; who < state.owners(); who++) {
+            snapshot[territories * 2 + who] = state.territoryCount(who);
+        }
+        snapshot[snapshot.length - 1] = state.current();
+        return snapshot;
+    }
+}
@@ -0,0 +1,63 @@
+package com.jack.dicewars.dice_wars.ai;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that a TranspositionTable returns stored data, drops replaced data, and never trusts a slot that is only half
+ * written.
+ */
+public class TranspositionTableTest {
+
+    private static final int BITS = 4;
+    /**
+     * Two hashes that share a slot of a table of 2^{@link #BITS} slots.
+     */
+    private static final long HASH = 0x5DEECE66DL;
+    private static final long COLLIDING_HASH = HASH + (1L << BITS);
+
+    @Test
+    public void getReturnsStoredData() {
+        final TranspositionTable table = new TranspositionTable(BITS);
+        assertEquals(TranspositionTable.MISSING, table.get(HASH));
+        table.put(HASH, 42);
+        assertEquals(42, table.get(HASH));
+        table.put(HASH, -7);
+        assertEquals(-7, table.get(HASH));
+    }
+
+    @Test
+    public void collidingPositionReplacesTheSlot() {
+        final TranspositionTable table = new TranspositionTable(BITS);
+        table.put(HASH, 1);
+        table.put(COLLIDING_HASH, 2);
+        assertEquals(TranspositionTable.MISSING, table.get(HASH));
+        assertEquals(2, table.get(COLLIDING_HASH));
+    }
+
+    @Test
+    public void tornSlotReadsAsMissing() {
+        final TranspositionTable table = new TranspositionTable(BITS);
+        table.put(HASH, 1);
+        // Another position's write that has only stored its check word so far
+        table.writeHalf(COLLIDING_HASH, 2);
+        assertEquals(TranspositionTable.MISSING, table.get(HASH));
+        assertEquals(TranspositionTable.MISSING, table.get(COLLIDING_HASH));
+
+        // A rewrite of the same position with new data, torn the same way
+        table.put(HASH, 1);
+        table.writeHalf(HASH, 3);
+        assertEquals(TranspositionTable.MISSING, table.get(HASH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingCannotBeStored() {
+        new TranspositionTable(BITS).put(HASH, TranspositionTable.MISSING);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBitsAreRejected() {
+        new TranspositionTable(-1);
+    }
+}
@@ -0,0 +1,119 @@
+package com.jack.dicewars.dice_wars.game;
+
+import com.jack.dicewars.dice_wars.Debug;
+import com.jack.dicewars.dice_wars.GameController;
+import com.jack.dicewars.dice_wars.TerritoryColor;
+import com.jack.dicewars.dice_wars.ai.DiceWarsAi;
+import com.jack.dicewars.dice_wars.ai.SimpleAi;
+import com.jack.dicewars.dice_wars.game.board.AbstractBoard;
+
+/**
+ * Builds seeded Games of AIs and plays them forward for tests, without a UI.
+ */
+public final class TestGames {
+
+    /**
+     * How many seeds {@link #playEveryMode(Check)} plays on each board.
+     */
+    private static final int GAMES = 8;
+    /**
+     * How many Phases {@link #playEveryMode(Check)} plays of each Game.
+     */
+    private static final int PHASES = 60;
+
+    private static final String[] NAMES = {"a", "b", "c", "d", "e", "f"};
+    private static final String[] STATUSES = {Player.STATUS_AI, Player.STATUS_AI, Player.STATUS_AI, Player.STATUS_AI,
+            Player.STATUS_CLOSED, Player.STATUS_CLOSED};
+    private static final TerritoryColor[] COLORS = {TerritoryColor.green, TerritoryColor.red, TerritoryColor.blue,
+            TerritoryColor.yellow, TerritoryColor.purple, TerritoryColor.pink};
+
+    /**
+     * Never instantiated.
+     */
+    private TestGames() {
+    }
+
+    /**
+     * An assertion about a Game, run as the Game is played.
+     */
+    public interface Check {
+
+        /**
+         *
+         * @param game The Game to check.
+         */
+        void check(Game game);
+    }
+
+    /**
+     * Plays seeded Games on a GridTextBoard and on a CompactBoard with colorless Territories, checking each Game once
+     * it starts and after every selection.
+     *
+     * @param check The assertion to run.
+     */
+    public static void playEveryMode(final Check check) {
+        final int[] appModes = {Debug.gridText.f, Debug.compactGrid.f};
+        for (int mode = 0; mode < appModes.length; mode++) {
+            for (long seed = 0; seed < GAMES; seed++) {
+                final Game game = start(seed, appModes[mode], mode % 2 == 1);
+                check.check(game);
+                play(game, PHASES, new Runnable() {
+                    @Override
+                    public void run() {
+                        check.check(game);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Creates and starts a Game of four AIs on a small board.
+     *
+     * @param seed The seed of the Game.
+     * @param appMode The app mode flags defined by {@link com.jack.dicewars.dice_wars.Debug}, which pick the board.
+     * @param colorless Whether the board has colorless Territories.
+     * @return The started Game.
+     */
+    public static Game start(long seed, int appMode, boolean colorless) {
+        final Configuration config = new Configuration(NAMES, STATUSES, COLORS, colorless, false,
+                AbstractBoard.BOARD_SIZE_SMALL);
+        config.setAppMode(appMode);
+        config.setSeed(seed);
+        final Game game = new Game(config, new GameController() {
+            @Override
+            public void onPhaseChange() {
+            }
+
+            @Override
+            public void onGameEnd() {
+            }
+        });
+        game.start();
+        return game;
+    }
+
+    /**
+     * Plays Phases with a SimpleAi for whoever's Turn it is.
+     *
+     * @param game A started Game.
+     * @param phases How many Phases to play, unless the Game ends first.
+     * @param afterEachSelection Run after every selection the AIs make.
+     */
+    public static void play(Game game, int phases, Runnable afterEachSelection) {
+        for (int phase = 0; phase < phases && !game.hasEnded(); phase++) {
+            final DiceWarsAi ai = new SimpleAi(game);
+            while (!game.hasEnded() && ai.desiredSelection()) {
+                ai.makeSelection();
+                afterEachSelection.run();
+            }
+            if (game.hasEnded()) {
+                return;
+            }
+            while (game.getPrimaryAction() != PrimaryAction.endPhase) {
+                game.doPrimaryAction();
+            }
+            game.doPrimaryAction();
+        }
+    }
+}
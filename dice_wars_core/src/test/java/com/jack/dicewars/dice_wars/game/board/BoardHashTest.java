@@ -0,0 +1,99 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.TestGames;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that the hash a board updates on every change of owner or value is the Zobrist hash recomputed from scratch,
+ * both as Games are played and after each single {@link AbstractBoard#transfer} and {@link AbstractBoard#setValueAt}.
+ */
+public class BoardHashTest {
+
+    /**
+     * How many single changes are made and undone at every check.
+     */
+    private static final int CHANGES = 4;
+
+    @Test
+    public void incrementalHashMatchesRecomputed() {
+        final Random random = new Random(0);
+        TestGames.playEveryMode(new TestGames.Check() {
+            @Override
+            public void check(Game game) {
+                checkHash(game.getBoard());
+                checkSingleChanges(game, random);
+            }
+        });
+    }
+
+    /**
+     * Makes single changes of owner or value to Territories of the Game's board, checking the hash after each, then
+     * undoes them in reverse, checking the hash again after each. A Territory only changes hands when its owner keeps
+     * another, because a Player that loses its last Territory is closed for good.
+     *
+     * @param game A Game whose board is left as it was found.
+     * @param random Picks the changes.
+     */
+    private static void checkSingleChanges(Game game, Random random) {
+        final AbstractBoard board = game.getBoard();
+        final OwnershipLedger ledger = board.getLedger();
+        final List<Player> players = new ArrayList<>();
+        for (Player player : game.turnOrder()) {
+            if (!player.getStatus().equals(Player.STATUS_CLOSED)) {
+                players.add(player);
+            }
+        }
+        final int[] territories = new int[CHANGES];
+        final Player[] owners = new Player[CHANGES];
+        final int[] values = new int[CHANGES];
+        for (int i = 0; i < CHANGES; i++) {
+            final int t = random.nextInt(board.getBoard().size());
+            territories[i] = t;
+            values[i] = ledger.value(t);
+            if (ledger.ownerIndex(t) == OwnershipLedger.COLORLESS) {
+                continue;
+            }
+            final Player owner = ledger.owner(t);
+            if (random.nextBoolean() && ledger.territoryCount(owner) > 1 && players.size() > 1) {
+                Player newOwner;
+                do {
+                    newOwner = players.get(random.nextInt(players.size()));
+                } while (newOwner == owner);
+                owners[i] = owner;
+                board.transfer(t, newOwner);
+            } else {
+                board.setValueAt(t, 1 + (values[i] + random.nextInt(owner.getMaxValue() - 1)) % owner.getMaxValue());
+            }
+            checkHash(board);
+        }
+        for (int i = CHANGES - 1; i >= 0; i--) {
+            if (owners[i] != null) {
+                board.transfer(territories[i], owners[i]);
+            } else {
+                board.setValueAt(territories[i], values[i]);
+            }
+            checkHash(board);
+        }
+    }
+
+    /**
+     * @param board A board whose hash must match its owners and values.
+     */
+    private static void checkHash(AbstractBoard board) {
+        final OwnershipLedger ledger = board.getLedger();
+        final ZobristKeys keys = board.getZobristKeys();
+        long hash = 0;
+        for (int t = 0; t < board.getBoard().size(); t++) {
+            hash ^= keys.key(t, ledger.ownerIndex(t), ledger.value(t));
+        }
+        assertEquals(hash, board.hash());
+    }
+}
@@ -0,0 +1,77 @@
+package com.jack.dicewars.dice_wars.game.board;
+
+import com.jack.dicewars.dice_wars.game.Game;
+import com.jack.dicewars.dice_wars.game.Player;
+import com.jack.dicewars.dice_wars.game.TestGames;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the regions a RegionTracker keeps up to date as Territories change hands against a flood fill of the board,
+ * including after captures that split a region apart.
+ */
+public class RegionTrackerTest {
+
+    @Test
+    public void regionsMatchFloodFill() {
+        TestGames.playEveryMode(new TestGames.Check() {
+            @Override
+            public void check(Game game) {
+                checkRegions(game);
+            }
+        });
+    }
+
+    /**
+     * @param game A Game whose board's tracked regions must match its flood filled regions.
+     */
+    private static void checkRegions(Game game) {
+        final AbstractBoard board = game.getBoard();
+        final List<TerritoryBorder> borders = board.getBoard();
+        final OwnershipLedger ledger = board.getLedger();
+        final RegionTracker regions = board.getRegions();
+        final int[] largest = new int[ledger.ownerCount()];
+        for (int t = 0; t < borders.size(); t++) {
+            final int owner = ledger.ownerIndex(t);
+            if (owner == OwnershipLedger.COLORLESS) {
+                continue;
+            }
+            final int size = floodFill(borders, ledger, t);
+            assertEquals("region of " + t, size, regions.regionSize(t));
+            largest[owner] = Math.max(largest[owner], size);
+        }
+        for (Player player : game.turnOrder()) {
+            assertEquals("largest region of " + player.getName(), largest[ledger.indexOf(player)],
+                    regions.largestRegion(player));
+        }
+    }
+
+    /**
+     * @param borders The connected TerritoryBorders of a board.
+     * @param ledger The ledger of the board.
+     * @param start The board index of a Territory that is not colorless.
+     * @return The number of Territories connected to start through Territories of the same owner.
+     */
+    private static int floodFill(List<TerritoryBorder> borders, OwnershipLedger ledger, int start) {
+        final boolean[] reached = new boolean[borders.size()];
+        final int[] queue = new int[borders.size()];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        reached[start] = true;
+        while (head < tail) {
+            final TerritoryBorder border = borders.get(queue[head++]);
+            for (int n = 0; n < border.numberOfNeighbors(); n++) {
+                final int neighbor = border.neighborAt(n).getIndex();
+                if (!reached[neighbor] && ledger.ownerIndex(neighbor) == ledger.ownerIndex(start)) {
+                    reached[neighbor] = true;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+        return tail;
+    }
+}